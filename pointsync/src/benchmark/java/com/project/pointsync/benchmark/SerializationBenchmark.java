@@ -0,0 +1,135 @@
+package com.project.pointsync.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.project.pointsync.domain.PointLedger;
+import com.project.pointsync.dto.AttendanceLog.CheckInResult;
+import com.project.pointsync.dto.AttendanceLog.SummaryResult;
+import com.project.pointsync.dto.PointLedger.PointLedgerListResDto;
+import com.project.pointsync.dto.PointLedger.PointLedgerResDto;
+import com.project.pointsync.global.cbor.CborObjectMapperFactory;
+import com.project.pointsync.global.id.Snowflake;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 고빈도 응답(포인트 이력 / 캘린더 / 요약 / 출석)의 JSON 대비 CBOR 직렬화 비교
+ * - 크기: 원본 바이트와 gzip 후 바이트
+ * - 속도: 워밍업 후 일정 시간 반복 직렬화한 평균 ns/op (단일 스레드)
+ * - CBOR 는 역직렬화 결과가 원본과 같은지도 확인한다
+ *
+ * ./gradlew serializationBenchmark --args="2000" 로 실행 (인자: 항목별 측정 시간(ms), 기본 2000)
+ */
+public class SerializationBenchmark {
+
+    private static long sink;
+
+    public static void main(String[] args) throws Exception {
+        long measureMillis = args.length > 0 ? Long.parseLong(args[0]) : 2000;
+
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json()
+                .timeZone(TimeZone.getTimeZone(CborObjectMapperFactory.ZONE))
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        ObjectMapper cbor = CborObjectMapperFactory.create();
+
+        Map<String, Object> payloads = new LinkedHashMap<>();
+        payloads.put("history(size=10)", history(10));
+        payloads.put("history(size=20)", history(20));
+        payloads.put("history(size=50)", history(50));
+        payloads.put("calendar(31 days)", calendar(31));
+        payloads.put("summary", new SummaryResult(true, 1234, 15, 42));
+        payloads.put("check-in", new CheckInResult(true, LocalDate.of(2026, 10, 19), 1, 1234, 15, 42));
+
+        System.out.printf("%-20s %10s %10s %7s %10s %10s %7s %12s %12s%n",
+                "payload", "json B", "cbor B", "ratio", "json gz", "cbor gz", "ratio", "json ns/op", "cbor ns/op");
+        for (Map.Entry<String, Object> e : payloads.entrySet()) {
+            Object value = e.getValue();
+            byte[] jsonBytes = json.writeValueAsBytes(value);
+            byte[] cborBytes = cbor.writeValueAsBytes(value);
+            verifyRoundTrip(cbor, value, cborBytes);
+
+            int jsonGz = gzipSize(jsonBytes);
+            int cborGz = gzipSize(cborBytes);
+            double jsonNs = measure(json, value, measureMillis);
+            double cborNs = measure(cbor, value, measureMillis);
+
+            System.out.printf("%-20s %10d %10d %6.0f%% %10d %10d %6.0f%% %12.0f %12.0f%n",
+                    e.getKey(), jsonBytes.length, cborBytes.length, 100.0 * cborBytes.length / jsonBytes.length,
+                    jsonGz, cborGz, 100.0 * cborGz / jsonGz, jsonNs, cborNs);
+        }
+        System.out.println("(sink=" + sink + ")");
+    }
+
+    private static double measure(ObjectMapper mapper, Object value, long measureMillis) throws IOException {
+        // 워밍업: JIT 컴파일과 serializer 캐시
+        long warmupEnd = System.nanoTime() + measureMillis * 500_000L;
+        while (System.nanoTime() < warmupEnd) {
+            sink += mapper.writeValueAsBytes(value).length;
+        }
+        long ops = 0;
+        long started = System.nanoTime();
+        long end = started + measureMillis * 1_000_000L;
+        long now;
+        do {
+            for (int i = 0; i < 100; i++) {
+                sink += mapper.writeValueAsBytes(value).length;
+            }
+            ops += 100;
+            now = System.nanoTime();
+        } while (now < end);
+        return (double) (now - started) / ops;
+    }
+
+    private static void verifyRoundTrip(ObjectMapper cbor, Object value, byte[] bytes) throws IOException {
+        Object decoded = value instanceof List<?>
+                ? cbor.readValue(bytes, cbor.getTypeFactory().constructCollectionType(List.class, LocalDate.class))
+                : cbor.readValue(bytes, value.getClass());
+        if (!value.equals(decoded)) {
+            throw new IllegalStateException("CBOR 역직렬화 결과가 원본과 다릅니다: " + value.getClass().getSimpleName());
+        }
+    }
+
+    private static int gzipSize(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(bytes);
+        }
+        return out.size();
+    }
+
+    private static PointLedgerListResDto history(int size) {
+        Snowflake ids = Snowflake.forNode(1);
+        long userId = ids.nextId();
+        LocalDateTime at = LocalDateTime.of(2026, 10, 19, 0, 0, 3);
+        List<PointLedgerResDto> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            PointLedger.PointReason reason = i % 7 == 6
+                    ? PointLedger.PointReason.STREAK_BONUS
+                    : PointLedger.PointReason.DAILY_CHECK_IN;
+            // CBOR 는 밀리초까지만 보내므로 왕복 비교가 되도록 밀리초 단위 시각 사용
+            items.add(new PointLedgerResDto(ids.nextId(), userId, reason == PointLedger.PointReason.STREAK_BONUS ? 10 : 1,
+                    reason, at.minusDays(i).plusNanos(123_000_000L)));
+        }
+        return new PointLedgerListResDto(userId, 0, size, 365, (365 + size - 1) / size, items);
+    }
+
+    private static List<LocalDate> calendar(int days) {
+        LocalDate from = LocalDate.of(2026, 10, 1);
+        List<LocalDate> dates = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            dates.add(from.plusDays(i));
+        }
+        return dates;
+    }
+}
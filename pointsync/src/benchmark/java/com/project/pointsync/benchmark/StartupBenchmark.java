@@ -0,0 +1,172 @@
+package com.project.pointsync.benchmark;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 기동 시간 측정: 프로세스 시작 ~ readiness UP, ~ 첫 출석 체크 성공(201)
+ * - 모드: 기본 / AOT / AOT+CDS (모두 prod 프로파일, 같은 풀린 jar 로 실행)
+ * - 측정용 사용자는 매 회 가입 후 출석하고 마지막에 삭제 요청한다 (가입 요청 시간도 첫 출석까지에 포함)
+ * - 앱 프로세스는 이 프로세스의 환경변수(DB_URL, REDIS_HOST 등)를 그대로 물려받는다
+ *
+ * ./gradlew startupBenchmark [-Pstartup.runs=5] 로 실행
+ */
+public class StartupBenchmark {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*\"?(\\d+)");
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private final String java;
+    private final Path appJar;
+    private final int port;
+
+    StartupBenchmark(String java, Path appJar, int port) {
+        this.java = java;
+        this.appJar = appJar;
+        this.port = port;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String java = System.getProperty("startup.java", "java");
+        Path appJar = Path.of(required("startup.app-jar"));
+        Path cdsArchive = Path.of(required("startup.cds-archive"));
+        int runs = Integer.parseInt(System.getProperty("startup.runs", "5"));
+        int port = Integer.parseInt(System.getProperty("startup.port", "18080"));
+
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("default", List.of());
+        modes.put("aot", List.of("-Dspring.aot.enabled=true"));
+        modes.put("aot+cds", List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=" + cdsArchive));
+
+        StartupBenchmark benchmark = new StartupBenchmark(java, appJar, port);
+        System.out.printf("%-10s %5s %14s %14s %18s %18s%n",
+                "mode", "runs", "ready med(ms)", "ready min(ms)", "check-in med(ms)", "check-in min(ms)");
+        for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+            List<Long> ready = new ArrayList<>();
+            List<Long> firstCheckIn = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                long[] result = benchmark.measure(mode.getValue());
+                ready.add(result[0]);
+                firstCheckIn.add(result[1]);
+            }
+            System.out.printf("%-10s %5d %14d %14d %18d %18d%n", mode.getKey(), runs,
+                    median(ready), min(ready), median(firstCheckIn), min(firstCheckIn));
+        }
+    }
+
+    /** 한 번 기동해서 [readiness 까지 ms, 첫 출석 성공까지 ms] */
+    long[] measure(List<String> jvmFlags) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(jvmFlags);
+        command.add("-Dspring.profiles.active=prod");
+        command.add("-Dserver.port=" + port);
+        command.add("-jar");
+        command.add(appJar.toString());
+
+        long started = System.nanoTime();
+        Process app = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            long deadline = started + TIMEOUT.toNanos();
+            awaitReady(app, deadline);
+            long readyAt = System.nanoTime();
+
+            long userId = signUp();
+            while (post("/api/attendances/check-in?userId=" + userId).statusCode() != 201) {
+                checkDeadline(app, deadline);
+                Thread.sleep(10);
+            }
+            long checkedInAt = System.nanoTime();
+
+            delete("/api/users/" + userId);
+            return new long[]{(readyAt - started) / 1_000_000, (checkedInAt - started) / 1_000_000};
+        } finally {
+            app.destroy();
+            app.waitFor();
+        }
+    }
+
+    private void awaitReady(Process app, long deadline) throws Exception {
+        while (true) {
+            checkDeadline(app, deadline);
+            try {
+                HttpResponse<String> res = http.send(request("/actuator/health/readiness").GET().build(),
+                        HttpResponse.BodyHandlers.ofString());
+                if (res.statusCode() == 200) {
+                    return;
+                }
+            } catch (ConnectException e) {
+                // 아직 포트가 열리지 않음
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private long signUp() throws IOException, InterruptedException {
+        String email = URLEncoder.encode("startup-" + UUID.randomUUID() + "@bench.local", StandardCharsets.UTF_8);
+        HttpResponse<String> res = post("/api/users?name=startup-bench&email=" + email);
+        Matcher matcher = ID.matcher(res.body());
+        if (res.statusCode() != 201 || !matcher.find()) {
+            throw new IllegalStateException("측정용 사용자 가입 실패: " + res.statusCode() + " " + res.body());
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private HttpResponse<String> post(String path) throws IOException, InterruptedException {
+        return http.send(request(path).POST(HttpRequest.BodyPublishers.noBody()).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private void delete(String path) throws IOException, InterruptedException {
+        http.send(request(path).DELETE().build(), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).timeout(Duration.ofSeconds(10));
+    }
+
+    private static void checkDeadline(Process app, long deadline) {
+        if (!app.isAlive()) {
+            throw new IllegalStateException("앱 프로세스가 종료됨 exit=" + app.exitValue());
+        }
+        if (System.nanoTime() > deadline) {
+            throw new IllegalStateException("기동 대기 시간 초과 " + TIMEOUT);
+        }
+    }
+
+    private static String required(String key) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            throw new IllegalArgumentException("시스템 프로퍼티 필요: " + key);
+        }
+        return value;
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = values.stream().sorted().toList();
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private static long min(List<Long> values) {
+        return values.stream().mapToLong(Long::longValue).min().orElse(0);
+    }
+}
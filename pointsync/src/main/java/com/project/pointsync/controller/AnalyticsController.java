@@ -0,0 +1,63 @@
+package com.project.pointsync.controller;
+
+import com.project.pointsync.dto.Analytics.AnalyticsBackfillStatus;
+import com.project.pointsync.dto.Analytics.DailyActiveResDto;
+import com.project.pointsync.dto.Analytics.MonthlyActiveResDto;
+import com.project.pointsync.dto.Analytics.RetentionResDto;
+import com.project.pointsync.service.AttendanceAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final AttendanceAnalyticsService attendanceAnalyticsService;
+
+    /** 기간별 일 출석 사용자 수 (DAU) */
+    @GetMapping("/daily")
+    public List<DailyActiveResDto> getDailyActive(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return attendanceAnalyticsService.getDailyActive(from, to);
+    }
+
+    /** 월 출석 사용자 수 (MAU), month=yyyy-MM */
+    @GetMapping("/monthly")
+    public MonthlyActiveResDto getMonthlyActive(@RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        return attendanceAnalyticsService.getMonthlyActive(month);
+    }
+
+    /** cohort 리텐션 (예: days=7, days=30) */
+    @GetMapping("/retention")
+    public RetentionResDto getRetention(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate cohort,
+            @RequestParam(defaultValue = "7") int days
+    ) {
+        return attendanceAnalyticsService.getRetention(cohort, days);
+    }
+
+    /** attendance_log 로 통계 키 재구축 시작 */
+    @PostMapping("/backfill")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public AnalyticsBackfillStatus backfill(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return attendanceAnalyticsService.startBackfill(from, to);
+    }
+
+    /** backfill 진행 상태와 마지막 결과 */
+    @GetMapping("/backfill")
+    public AnalyticsBackfillStatus getBackfillStatus() {
+        return attendanceAnalyticsService.backfillStatus();
+    }
+}
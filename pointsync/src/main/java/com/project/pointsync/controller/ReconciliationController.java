@@ -0,0 +1,28 @@
+package com.project.pointsync.controller;
+
+import com.project.pointsync.dto.Reconciliation.ReconciliationStatus;
+import com.project.pointsync.service.ReconciliationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/reconciliation")
+@RequiredArgsConstructor
+public class ReconciliationController {
+
+    private final ReconciliationService reconciliationService;
+
+    /** Redis 파생 캐시 / 원장 정합성 점검 시작 (repair=true 면 캐시 불일치 복구) */
+    @PostMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ReconciliationStatus start(@RequestParam(defaultValue = "false") boolean repair) {
+        return reconciliationService.start(repair);
+    }
+
+    /** 점검 진행 상태와 마지막 결과 */
+    @GetMapping
+    public ReconciliationStatus getStatus() {
+        return reconciliationService.status();
+    }
+}
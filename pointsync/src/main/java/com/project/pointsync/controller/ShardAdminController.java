@@ -0,0 +1,60 @@
+package com.project.pointsync.controller;
+
+import com.project.pointsync.dto.PointLedger.PointLedgerResDto;
+import com.project.pointsync.dto.Shard.ShardMoveStatus;
+import com.project.pointsync.dto.Shard.ShardRebalanceStatus;
+import com.project.pointsync.dto.Shard.ShardStatsResDto;
+import com.project.pointsync.service.ShardAdminService;
+import com.project.pointsync.service.ShardMigrationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/shards")
+@RequiredArgsConstructor
+public class ShardAdminController {
+
+    private final ShardAdminService shardAdminService;
+    private final ShardMigrationService shardMigrationService;
+
+    /** 샤드별 통계 */
+    @GetMapping
+    public List<ShardStatsResDto> getStats() {
+        return shardAdminService.getStats();
+    }
+
+    /** 전체 샤드 최신 포인트 원장 */
+    @GetMapping("/ledger/recent")
+    public List<PointLedgerResDto> getRecentLedger(@RequestParam(defaultValue = "20") int size) {
+        return shardAdminService.getRecentLedger(size);
+    }
+
+    /** 사용자 한 명을 다른 샤드로 이동 시작 */
+    @PostMapping("/users/{userId}/move")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ShardMoveStatus moveUser(@PathVariable Long userId, @RequestParam int target) {
+        return shardMigrationService.startMove(userId, target);
+    }
+
+    /** 사용자 이동 진행 상태 */
+    @GetMapping("/users/{userId}/move")
+    public ShardMoveStatus getMoveStatus(@PathVariable Long userId) {
+        return shardMigrationService.moveStatus(userId);
+    }
+
+    /** 새 ring 구성으로 재분배 시작 (예: ring=0,1,2) */
+    @PostMapping("/rebalance")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ShardRebalanceStatus rebalance(@RequestParam List<Integer> ring) {
+        return shardMigrationService.startRebalance(ring);
+    }
+
+    /** 재분배 진행 상태 */
+    @GetMapping("/rebalance")
+    public ShardRebalanceStatus getRebalanceStatus() {
+        return shardMigrationService.rebalanceStatus();
+    }
+}
@@ -1,5 +1,6 @@
 package com.project.pointsync.controller;
 
+import com.project.pointsync.dto.User.UserPurgeStatus;
 import com.project.pointsync.dto.User.UserResDto;
 import com.project.pointsync.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -34,10 +35,16 @@ public class UserController {
         return userService.findByEmail(email);
     }
 
-    /** 사용자 삭제 (DELETE) */
+    /** 사용자 삭제 (DELETE) : 즉시 반환, 이력 정리는 백그라운드 */
     @DeleteMapping("/{id}")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void deleteUser(@PathVariable Long id) {
-        userService.delete(id);
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public UserPurgeStatus deleteUser(@PathVariable Long id) {
+        return userService.delete(id);
+    }
+
+    /** 사용자 삭제 진행 상태 */
+    @GetMapping("/{id}/purge")
+    public UserPurgeStatus getPurgeStatus(@PathVariable Long id) {
+        return userService.getPurgeStatus(id);
     }
 }
@@ -1,6 +1,7 @@
 package com.project.pointsync.domain;
 
 import com.project.pointsync.global.entity.BaseTimeEntity;
+import com.project.pointsync.global.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -17,23 +18,23 @@ import java.time.LocalDate;
 public class AttendanceLog extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
-    private User user;
+    // 샤드 DB 에는 users 가 없으므로 연관관계 대신 id 만 보관 (샤드 키)
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
 
     // KST 기준
     @Column(name = "attend_date", nullable = false)
     private LocalDate attendDate;
 
-    private AttendanceLog(User user, LocalDate attendDate) {
-        this.user = user;
+    private AttendanceLog(Long userId, LocalDate attendDate) {
+        this.userId = userId;
         this.attendDate = attendDate;
     }
 
     public static AttendanceLog create(User user, LocalDate attendDate) {
-        return new AttendanceLog(user, attendDate);
+        return new AttendanceLog(user.getId(), attendDate);
     }
 }
\ No newline at end of file
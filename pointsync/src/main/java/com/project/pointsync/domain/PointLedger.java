@@ -1,6 +1,7 @@
 package com.project.pointsync.domain;
 
 import com.project.pointsync.global.entity.BaseTimeEntity;
+import com.project.pointsync.global.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -9,16 +10,17 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "point_ledger")
+@Table(name = "point_ledger",
+        indexes = @Index(name = "idx_point_ledger_user_id", columnList = "user_id, id"))
 public class PointLedger extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
-    private User user;
+    // 샤드 DB 에는 users 가 없으므로 연관관계 대신 id 만 보관 (샤드 키)
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
 
     @Column(nullable = false)
     private int amount;
@@ -27,8 +29,8 @@ public class PointLedger extends BaseTimeEntity {
     @Column(nullable = false, length = 50)
     private PointReason reason;
 
-    private PointLedger(User user, int amount, PointReason reason) {
-        this.user = user;
+    private PointLedger(Long userId, int amount, PointReason reason) {
+        this.userId = userId;
         this.amount = amount;
         this.reason = reason;
     }
@@ -40,6 +42,6 @@ public class PointLedger extends BaseTimeEntity {
     }
 
     public static PointLedger create(User user, int amount, PointReason reason) {
-        return new PointLedger(user, amount, reason);
+        return new PointLedger(user.getId(), amount, reason);
     }
 }
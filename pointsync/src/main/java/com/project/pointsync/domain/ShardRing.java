@@ -0,0 +1,89 @@
+package com.project.pointsync.domain;
+
+import com.project.pointsync.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 현재 consistent hash ring 구성 (행 하나)
+ * - targetRing 이 있으면 재분배 중: id 가 cutoverUserId 이상인(그 시각 이후 가입한) 사용자는 처음부터 targetRing 으로 보낸다
+ * - version 이 바뀌면 각 서버가 ring 과 user_shard 를 전부 다시 읽는다 (ShardResolver)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "shard_ring")
+public class ShardRing extends BaseTimeEntity {
+
+    public static final long ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "ring", nullable = false, length = 500)
+    private String ring;
+
+    @Column(name = "target_ring", length = 500)
+    private String targetRing;
+
+    @Column(name = "cutover_user_id")
+    private Long cutoverUserId;
+
+    // 재분배 후 ring 과 같은 user_shard 를 정리한 시각 (서버들이 전체를 다시 읽도록 version 을 올린다)
+    @Column(name = "pins_cleaned_at")
+    private LocalDateTime pinsCleanedAt;
+
+    @Version
+    private Long version;
+
+    private ShardRing(List<Integer> ring) {
+        this.id = ID;
+        this.ring = join(ring);
+    }
+
+    public static ShardRing initial(List<Integer> ring) {
+        return new ShardRing(ring);
+    }
+
+    public List<Integer> ringShards() {
+        return split(ring);
+    }
+
+    public List<Integer> targetShards() {
+        return targetRing == null ? null : split(targetRing);
+    }
+
+    public boolean isRebalancing() {
+        return targetRing != null;
+    }
+
+    public void startRebalance(List<Integer> target, long cutoverUserId) {
+        this.targetRing = join(target);
+        this.cutoverUserId = cutoverUserId;
+    }
+
+    public void completeRebalance() {
+        this.ring = targetRing;
+        this.targetRing = null;
+        this.cutoverUserId = null;
+    }
+
+    public void pinsCleaned(LocalDateTime now) {
+        this.pinsCleanedAt = now;
+    }
+
+    private static String join(List<Integer> shards) {
+        return shards.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private static List<Integer> split(String shards) {
+        return Arrays.stream(shards.split(",")).map(Integer::valueOf).toList();
+    }
+}
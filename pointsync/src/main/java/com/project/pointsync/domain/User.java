@@ -1,20 +1,26 @@
 package com.project.pointsync.domain;
 
 import com.project.pointsync.global.entity.BaseTimeEntity;
+import com.project.pointsync.global.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // 정리 대기 tombstone 을 deleted_at 순으로 조회 (UserRepository.findDeletedIds)
+        @Index(name = "idx_users_deleted_at", columnList = "deleted_at")
+})
 public class User extends BaseTimeEntity {
 
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false ,length = 50)
@@ -23,6 +29,10 @@ public class User extends BaseTimeEntity {
     @Column(nullable = false, unique = true, length = 100)
     private String email;
 
+    // 삭제 요청 시각 (tombstone). 값이 있으면 백그라운드 정리 대상이며 조회/출석에서 제외
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     private User(String name , String email){
         this.name = name;
         this.email = email;
@@ -33,6 +43,16 @@ public class User extends BaseTimeEntity {
         return new User(name , email);
     }
 
+    public void markDeleted(LocalDateTime now) {
+        if (this.deletedAt == null) {
+            this.deletedAt = now;
+        }
+    }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
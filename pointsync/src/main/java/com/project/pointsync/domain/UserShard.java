@@ -0,0 +1,60 @@
+package com.project.pointsync.domain;
+
+import com.project.pointsync.global.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * consistent hash 결과와 다른 샤드에 있는 사용자 (리샤딩으로 옮겨진 사용자)
+ * - targetShardId 가 있으면 이동 중: 쓰기를 막고 shardId 에서 읽는다
+ * - 재분배가 끝나 ring 결과와 같아진 행은 지운다 (ShardMigrationService)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_shard", indexes = {
+        // ShardResolver 주기 갱신 (워터마크 이후 변경분, 이동 중인 행)
+        @Index(name = "idx_user_shard_updated_at", columnList = "updated_at"),
+        @Index(name = "idx_user_shard_target_shard_id", columnList = "target_shard_id")
+})
+public class UserShard extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "shard_id", nullable = false)
+    private int shardId;
+
+    @Column(name = "target_shard_id")
+    private Integer targetShardId;
+
+    private UserShard(Long userId, int shardId, Integer targetShardId) {
+        this.userId = userId;
+        this.shardId = shardId;
+        this.targetShardId = targetShardId;
+    }
+
+    public static UserShard moving(Long userId, int fromShard, int toShard) {
+        return new UserShard(userId, fromShard, toShard);
+    }
+
+    public void startMove(int toShard) {
+        this.targetShardId = toShard;
+    }
+
+    public void completeMove() {
+        this.shardId = targetShardId;
+        this.targetShardId = null;
+    }
+
+    public void cancelMove() {
+        this.targetShardId = null;
+    }
+
+    public boolean isMoving() {
+        return targetShardId != null;
+    }
+}
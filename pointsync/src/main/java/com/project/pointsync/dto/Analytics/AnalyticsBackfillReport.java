@@ -0,0 +1,11 @@
+package com.project.pointsync.dto.Analytics;
+
+import java.time.LocalDate;
+
+public record AnalyticsBackfillReport(
+        LocalDate from,
+        LocalDate to,
+        long usersScanned,
+        long rowsApplied,
+        long elapsedMs
+) {}
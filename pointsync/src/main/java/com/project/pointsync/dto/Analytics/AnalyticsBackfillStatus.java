@@ -0,0 +1,21 @@
+package com.project.pointsync.dto.Analytics;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record AnalyticsBackfillStatus(
+        State state,
+        LocalDate from,
+        LocalDate to,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String error,
+        AnalyticsBackfillReport lastReport  // 마지막으로 끝난 backfill 결과 (실행 중에도 유지)
+) {
+    public enum State {
+        IDLE,       // 실행 이력 없음
+        RUNNING,    // backfill 중 (어느 서버에서든)
+        DONE,       // 완료, lastReport 가 이번 결과
+        FAILED      // 실패, error 참고
+    }
+}
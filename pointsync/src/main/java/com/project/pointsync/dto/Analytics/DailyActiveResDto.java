@@ -0,0 +1,8 @@
+package com.project.pointsync.dto.Analytics;
+
+import java.time.LocalDate;
+
+public record DailyActiveResDto(
+        LocalDate date,
+        long activeUsers
+) {}
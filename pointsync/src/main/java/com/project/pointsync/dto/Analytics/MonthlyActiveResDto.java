@@ -0,0 +1,8 @@
+package com.project.pointsync.dto.Analytics;
+
+import java.time.YearMonth;
+
+public record MonthlyActiveResDto(
+        YearMonth month,
+        long activeUsers        // HyperLogLog 추정치 (표준 오차 약 0.81%)
+) {}
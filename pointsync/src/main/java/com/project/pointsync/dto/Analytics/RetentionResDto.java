@@ -0,0 +1,13 @@
+package com.project.pointsync.dto.Analytics;
+
+import java.time.LocalDate;
+
+public record RetentionResDto(
+        LocalDate cohort,       // 이 날 출석한 사용자 집단
+        int days,
+        long cohortSize,
+        long retainedOnDay,     // cohort + days 당일에 출석
+        long retainedWithin,    // cohort + 1 ~ cohort + days 사이 하루라도 출석
+        double onDayRate,
+        double withinRate
+) {}
@@ -1,9 +1,10 @@
 package com.project.pointsync.dto.PointLedger;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import java.util.List;
 
 public record PointLedgerListResDto(
-        Long userId,
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long userId,
         int page,
         int size,
         long totalElements,
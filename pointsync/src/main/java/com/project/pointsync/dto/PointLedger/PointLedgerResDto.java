@@ -1,12 +1,13 @@
 package com.project.pointsync.dto.PointLedger;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.project.pointsync.domain.PointLedger;
 
 import java.time.LocalDateTime;
 
 public record PointLedgerResDto(
-        Long id,
-        Long userId,
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long id,
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long userId,
         int amount,
         PointLedger.PointReason pointReason,
         LocalDateTime createdAt
@@ -14,7 +15,7 @@ public record PointLedgerResDto(
     public static PointLedgerResDto from(PointLedger p) {
         return new PointLedgerResDto(
                 p.getId(),
-                p.getUser().getId(),
+                p.getUserId(),
                 p.getAmount(),
                 p.getReason(),
                 p.getCreatedAt()
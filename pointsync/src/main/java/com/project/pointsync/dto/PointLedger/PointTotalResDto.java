@@ -1,7 +1,9 @@
 package com.project.pointsync.dto.PointLedger;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
+
 public record PointTotalResDto(
-        Long userId,
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long userId,
         int totalPoints
 ) {
 }
@@ -0,0 +1,18 @@
+package com.project.pointsync.dto.Reconciliation;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record ReconciliationReport(
+        LocalDate date,
+        boolean repair,
+        long usersScanned,
+        long rangesScanned,
+        long redisKeysScanned,
+        long cacheMissing,      // DB 에는 오늘 출석이 있는데 Redis 키가 없음
+        long cacheOrphan,       // Redis 키는 있는데 DB 출석이 없음 (해당 사용자는 오늘 출석 불가 상태)
+        long ledgerMismatch,    // 출석 건수와 DAILY_CHECK_IN 원장 건수가 다름
+        long repaired,
+        long elapsedMs,
+        List<String> samples    // 불일치 예시 (최대 100건)
+) {}
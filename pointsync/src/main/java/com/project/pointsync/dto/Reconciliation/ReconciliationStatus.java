@@ -0,0 +1,19 @@
+package com.project.pointsync.dto.Reconciliation;
+
+import java.time.LocalDateTime;
+
+public record ReconciliationStatus(
+        State state,
+        boolean repair,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String error,
+        ReconciliationReport lastReport     // 마지막으로 끝난 점검 결과 (실행 중에도 유지)
+) {
+    public enum State {
+        IDLE,       // 실행 이력 없음
+        RUNNING,    // 점검 중 (어느 서버에서든)
+        DONE,       // 완료, lastReport 가 이번 결과
+        FAILED      // 실패, error 참고
+    }
+}
@@ -0,0 +1,11 @@
+package com.project.pointsync.dto.Shard;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+public record ShardMoveResDto(
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long userId,
+        int fromShard,
+        int toShard,
+        long attendanceCopied,
+        long ledgerCopied
+) {}
@@ -0,0 +1,18 @@
+package com.project.pointsync.dto.Shard;
+
+import java.time.LocalDateTime;
+
+public record ShardMoveStatus(
+        State state,
+        ShardMoveResDto move,       // 원래/대상 샤드와 복사 건수 (끝나야 채워진다)
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String error
+) {
+    public enum State {
+        IDLE,       // 이동 이력 없음
+        RUNNING,    // 이동 중 (어느 서버에서든)
+        DONE,       // 완료
+        FAILED      // 실패, 원래 샤드가 그대로 원본 (error 참고)
+    }
+}
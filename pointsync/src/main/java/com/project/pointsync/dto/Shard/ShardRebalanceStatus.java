@@ -0,0 +1,14 @@
+package com.project.pointsync.dto.Shard;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ShardRebalanceStatus(
+        boolean running,
+        List<Integer> ring,     // 목표 ring 구성
+        long usersScanned,
+        long usersMoved,
+        long failures,          // 실패가 있으면 ring 을 전환하지 않는다 (같은 ring 으로 다시 실행)
+        long pinsRemoved,       // 전환 후 정리한 user_shard 행
+        LocalDateTime updatedAt
+) {}
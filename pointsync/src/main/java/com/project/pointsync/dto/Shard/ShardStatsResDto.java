@@ -0,0 +1,8 @@
+package com.project.pointsync.dto.Shard;
+
+public record ShardStatsResDto(
+        int shard,
+        boolean inRing,         // consistent hash 에 참여 중인지 (false 면 리샤딩으로 옮겨진 사용자만 있음)
+        long attendanceToday,
+        long ledgerRows
+) {}
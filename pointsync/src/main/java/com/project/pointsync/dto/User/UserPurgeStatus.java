@@ -0,0 +1,20 @@
+package com.project.pointsync.dto.User;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDateTime;
+
+public record UserPurgeStatus(
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long userId,
+        State state,
+        long attendanceDeleted,
+        long ledgerDeleted,
+        long redisKeysDeleted,
+        LocalDateTime updatedAt
+) {
+    public enum State {
+        PENDING,    // tombstone 처리됨, 정리 대기 (1차 정리 후 final-grace 를 기다리는 중 포함)
+        RUNNING,    // 배치 삭제 진행 중
+        DONE,       // 연관 데이터 및 사용자 삭제 완료
+        FAILED      // 실패, 주기 점검에서 재시도
+    }
+}
@@ -1,9 +1,10 @@
 package com.project.pointsync.dto.User;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.project.pointsync.domain.User;
 
 public record UserResDto(
-        Long id,
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Long id,
         String name,
         String email
 ) {
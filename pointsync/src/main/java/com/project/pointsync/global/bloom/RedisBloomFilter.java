@@ -0,0 +1,313 @@
+package com.project.pointsync.global.bloom;
+
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis 비트맵 기반 확장형(Scalable) Bloom filter
+ * - 여러 서버가 같은 필터를 공유하며, 레이어가 가득 차면 용량 2배의 새 레이어를 추가한다
+ * - 레이어 i의 오탐률은 fpp*(1-r)*r^i 로 줄여 전체 오탐률이 fpp 이하로 유지된다
+ * - 필터가 아직 없거나(재구축 전) Redis 상태를 신뢰할 수 없으면 항상 "있을 수 있음"으로 응답한다(fail-open)
+ * - 등록이 실패한 값이 있으면 dirty 로 표시하고, dirty 인 동안은 fail-open. 다음 재구축이 끝나면 해제된다
+ *
+ * Redis 키 구조
+ * - {prefix}:current            현재 세대(generation) id
+ * - {prefix}:rebuilding         재구축 중인 세대 id (있으면 add 시 함께 기록)
+ * - {prefix}:dirty              등록 누락 표시 (표시할 때마다 INCR, 재구축 시작 후 바뀌지 않았을 때만 삭제)
+ * - {prefix}:{gen}:counts       hash, 레이어 번호 -> 삽입 건수
+ * - {prefix}:{gen}:L{i}         레이어 i 비트맵
+ */
+public class RedisBloomFilter {
+
+    private static final int GROWTH = 2;
+    private static final double TIGHTENING = 0.5;
+    private static final long MAX_BITS = 1L << 32; // Redis 비트맵 최대 크기
+
+    // 재구축 시작 시점의 dirty 값과 같을 때만 삭제 (재구축 중에 새로 표시된 누락은 남긴다)
+    private static final RedisScript<Long> CLEAR_DIRTY_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final String prefix;
+    private final long initialCapacity;
+    private final double fpp;
+
+    // 마지막으로 관측한 레이어별 삽입 건수 (오탐률 추정용)
+    private volatile long[] observedCounts = new long[0];
+
+    public RedisBloomFilter(StringRedisTemplate redis, String prefix, long initialCapacity, double fpp) {
+        if (initialCapacity <= 0 || fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("initialCapacity > 0, 0 < fpp < 1 이어야 합니다.");
+        }
+        this.redis = redis;
+        this.prefix = prefix;
+        this.initialCapacity = initialCapacity;
+        this.fpp = fpp;
+    }
+
+    /** 값이 등록되어 있을 수 있으면 true, 확실히 없으면 false */
+    public boolean mightContain(String value) {
+        List<String> state = redis.opsForValue().multiGet(List.of(currentKey(), dirtyKey()));
+        String gen = state.get(0);
+        if (gen == null) {
+            return true; // 아직 구축 전
+        }
+        if (state.get(1) != null) {
+            return true; // 등록 누락이 있어 "없음"을 신뢰할 수 없음
+        }
+        long[] counts = readCounts(gen);
+        if (counts.length == 0) {
+            return true; // 세대가 교체되었거나 Redis 데이터 유실
+        }
+        observedCounts = counts;
+
+        long[] hash = hash(value);
+        List<Object> bits = redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (int layer = 0; layer < counts.length; layer++) {
+                for (long offset : positions(hash, layer)) {
+                    conn.getBit(layerKey(gen, layer), offset);
+                }
+            }
+            return null;
+        });
+
+        int idx = 0;
+        for (int layer = 0; layer < counts.length; layer++) {
+            int k = hashCount(layer);
+            boolean all = true;
+            for (int i = 0; i < k; i++) {
+                if (!Boolean.TRUE.equals(bits.get(idx + i))) {
+                    all = false;
+                }
+            }
+            if (all) {
+                return true;
+            }
+            idx += k;
+        }
+        return false;
+    }
+
+    /** 값 등록. 재구축 중이면 새 세대에도 함께 기록한다 */
+    public void put(String value) {
+        List<String> gens = redis.opsForValue().multiGet(List.of(currentKey(), rebuildingKey()));
+        String gen = gens.get(0);
+        String rebuilding = gens.get(1);
+        List<long[]> hashes = List.of(hash(value));
+        if (gen != null) {
+            putInto(gen, hashes);
+        }
+        if (rebuilding != null && !rebuilding.equals(gen)) {
+            putInto(rebuilding, hashes);
+        }
+    }
+
+    /** 등록 실패 등으로 필터에 빠진 값이 있을 수 있음을 표시 (다음 재구축 완료 전까지 fail-open) */
+    public void markDirty() {
+        redis.opsForValue().increment(dirtyKey());
+    }
+
+    public boolean isDirty() {
+        return Boolean.TRUE.equals(redis.hasKey(dirtyKey()));
+    }
+
+    /**
+     * 새 세대를 만들어 values 전체를 채운 뒤 current 로 교체한다
+     * - 채우는 동안 들어온 put 은 rebuilding 키를 통해 새 세대에도 기록된다
+     * - rebuilding 표시 전에 put 하고 스캔이 지나간 뒤 커밋된 값은 여기서 알 수 없으므로,
+     *   batches 끝에 그런 값을 다시 읽는 구간(catch-up)을 호출 측에서 붙여야 한다
+     * - 시작 시점 이후 새로 dirty 표시가 없었으면 교체와 함께 dirty 를 해제한다
+     * - 이전 세대는 교체 후 oldGenerationTtlSeconds 뒤에 만료된다
+     */
+    public long rebuild(Iterable<List<String>> batches, long oldGenerationTtlSeconds) {
+        String dirtyAtStart = redis.opsForValue().get(dirtyKey());
+        String newGen = UUID.randomUUID().toString().substring(0, 8);
+        redis.opsForHash().put(countsKey(newGen), "0", "0");
+        redis.opsForValue().set(rebuildingKey(), newGen);
+
+        long total = 0;
+        try {
+            for (List<String> batch : batches) {
+                putInto(newGen, batch.stream().map(RedisBloomFilter::hash).toList());
+                total += batch.size();
+            }
+        } catch (RuntimeException e) {
+            redis.delete(rebuildingKey());
+            expireGeneration(newGen, 0);
+            throw e;
+        }
+
+        String oldGen = redis.opsForValue().getAndSet(currentKey(), newGen);
+        redis.delete(rebuildingKey());
+        if (dirtyAtStart != null) {
+            redis.execute(CLEAR_DIRTY_SCRIPT, List.of(dirtyKey()), dirtyAtStart);
+        }
+        if (oldGen != null && !oldGen.equals(newGen)) {
+            expireGeneration(oldGen, oldGenerationTtlSeconds);
+        }
+        return total;
+    }
+
+    /** 관측된 레이어 채움 정도로 추정한 현재 오탐률 */
+    public double estimatedFalsePositiveRate() {
+        long[] counts = observedCounts;
+        double pass = 1.0;
+        for (int layer = 0; layer < counts.length; layer++) {
+            double m = bitCount(layer);
+            int k = hashCount(layer);
+            double layerFpp = Math.pow(1 - Math.exp(-k * counts[layer] / m), k);
+            pass *= (1 - layerFpp);
+        }
+        return 1 - pass;
+    }
+
+    /** 최근 관측 기준 등록 건수 */
+    public long approximateSize() {
+        long sum = 0;
+        for (long c : observedCounts) sum += c;
+        return sum;
+    }
+
+    /** 현재 마지막 레이어에 한 번의 파이프라인으로 기록 */
+    private void putInto(String gen, List<long[]> hashes) {
+        if (hashes.isEmpty()) {
+            return;
+        }
+        int layer = Math.max(0, readCounts(gen).length - 1);
+
+        List<Object> result = redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            String key = layerKey(gen, layer);
+            for (long[] hash : hashes) {
+                for (long offset : positions(hash, layer)) {
+                    conn.setBit(key, offset, true);
+                }
+            }
+            conn.hIncrBy(countsKey(gen), String.valueOf(layer), hashes.size());
+            return null;
+        });
+        long count = (Long) result.get(result.size() - 1);
+        if (count >= capacity(layer)) {
+            // 레이어가 가득 차면 다음 레이어를 연다 (여러 서버가 동시에 와도 한 번만 생성)
+            redis.opsForHash().putIfAbsent(countsKey(gen), String.valueOf(layer + 1), "0");
+        }
+    }
+
+    private long[] readCounts(String gen) {
+        Map<Object, Object> entries = redis.opsForHash().entries(countsKey(gen));
+        long[] counts = new long[entries.size()];
+        for (Map.Entry<Object, Object> e : entries.entrySet()) {
+            int layer = Integer.parseInt((String) e.getKey());
+            if (layer >= counts.length) {
+                return new long[0]; // 레이어 번호가 비어 있으면 손상된 상태로 본다
+            }
+            counts[layer] = Long.parseLong((String) e.getValue());
+        }
+        return counts;
+    }
+
+    private void expireGeneration(String gen, long ttlSeconds) {
+        long[] counts = readCounts(gen);
+        List<String> keys = new ArrayList<>();
+        keys.add(countsKey(gen));
+        for (int layer = 0; layer < Math.max(counts.length, 1); layer++) {
+            keys.add(layerKey(gen, layer));
+        }
+        if (ttlSeconds <= 0) {
+            redis.delete(keys);
+            return;
+        }
+        for (String key : keys) {
+            redis.expire(key, Duration.ofSeconds(ttlSeconds));
+        }
+    }
+
+    // ---- 레이어 파라미터 ----
+
+    private long capacity(int layer) {
+        return initialCapacity * (long) Math.pow(GROWTH, layer);
+    }
+
+    private double layerFpp(int layer) {
+        return fpp * (1 - TIGHTENING) * Math.pow(TIGHTENING, layer);
+    }
+
+    private long bitCount(int layer) {
+        double n = capacity(layer);
+        long m = (long) Math.ceil(-n * Math.log(layerFpp(layer)) / (Math.log(2) * Math.log(2)));
+        return Math.min(m, MAX_BITS);
+    }
+
+    private int hashCount(int layer) {
+        double k = (double) bitCount(layer) / capacity(layer) * Math.log(2);
+        return Math.max(1, (int) Math.round(k));
+    }
+
+    /** Kirsch-Mitzenmacher 이중 해싱으로 k 개의 비트 위치 계산 */
+    private long[] positions(long[] hash, int layer) {
+        long m = bitCount(layer);
+        int k = hashCount(layer);
+        long[] offsets = new long[k];
+        for (int i = 0; i < k; i++) {
+            offsets[i] = Math.floorMod(hash[0] + i * hash[1], m);
+        }
+        return offsets;
+    }
+
+    private static long[] hash(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        return new long[]{mix(bytes, 0x9E3779B97F4A7C15L), mix(bytes, 0xC2B2AE3D27D4EB4FL) | 1L};
+    }
+
+    private static long mix(byte[] bytes, long seed) {
+        long h = 0xcbf29ce484222325L ^ seed; // FNV-1a 64
+        for (byte b : bytes) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+        // murmur3 fmix64
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // ---- 키 ----
+
+    private String currentKey() {
+        return prefix + ":current";
+    }
+
+    private String rebuildingKey() {
+        return prefix + ":rebuilding";
+    }
+
+    private String dirtyKey() {
+        return prefix + ":dirty";
+    }
+
+    private String countsKey(String gen) {
+        return prefix + ":" + gen + ":counts";
+    }
+
+    private String layerKey(String gen, int layer) {
+        return prefix + ":" + gen + ":L" + layer;
+    }
+}
@@ -0,0 +1,131 @@
+package com.project.pointsync.global.cbor;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.project.pointsync.dto.AttendanceLog.CheckInResult;
+import com.project.pointsync.dto.AttendanceLog.SummaryResult;
+import com.project.pointsync.dto.PointLedger.PointLedgerListResDto;
+import com.project.pointsync.dto.PointLedger.PointLedgerResDto;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 모바일 고빈도 응답용 CBOR ObjectMapper (Accept: application/cbor)
+ * - 응답 record 는 배열로 직렬화해 항목마다 필드명을 반복하지 않는다. 배열 순서는 아래 mix-in 의 @JsonPropertyOrder
+ *   (필드 추가는 끝에만: 기존 클라이언트가 앞쪽 위치를 그대로 읽을 수 있게)
+ * - 날짜는 epoch 기반 정수: LocalDate = epoch day, LocalDateTime = KST 기준 epoch millis (밀리초 미만은 버림)
+ * - id 는 정수 그대로: JSON 에서는 JS 정밀도 문제로 문자열(@JsonFormat(shape = STRING))이지만 CBOR 는 64bit 정수를 그대로 담는다
+ * - JSON 응답은 기존 설정 그대로 (이 매퍼는 CBOR 컨버터에만 쓰인다)
+ */
+public final class CborObjectMapperFactory {
+
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private CborObjectMapperFactory() {
+    }
+
+    public static ObjectMapper create() {
+        return Jackson2ObjectMapperBuilder.cbor()
+                .serializerByType(LocalDate.class, new EpochDaySerializer())
+                .serializerByType(LocalDateTime.class, new EpochMillisSerializer())
+                .deserializerByType(LocalDate.class, new EpochDayDeserializer())
+                .deserializerByType(LocalDateTime.class, new EpochMillisDeserializer())
+                .mixIn(PointLedgerListResDto.class, PointLedgerListMixIn.class)
+                .mixIn(PointLedgerResDto.class, PointLedgerMixIn.class)
+                .mixIn(CheckInResult.class, CheckInResultMixIn.class)
+                .mixIn(SummaryResult.class, SummaryResultMixIn.class)
+                .annotationIntrospector(current -> new NumericIdIntrospector())
+                .build();
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({"userId", "page", "size", "totalElements", "totalPages", "items"})
+    private interface PointLedgerListMixIn {
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({"id", "userId", "amount", "pointReason", "createdAt"})
+    private interface PointLedgerMixIn {
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({"attendedToday", "date", "todayPoint", "totalPoints", "currentStreak", "longestStreak"})
+    private interface CheckInResultMixIn {
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+    @JsonPropertyOrder({"attendedToday", "totalPoints", "currentStreak", "longestStreak"})
+    private interface SummaryResultMixIn {
+    }
+
+    /** Long 에 붙은 shape = STRING 을 무시 (JSON 전용 설정) */
+    private static class NumericIdIntrospector extends JacksonAnnotationIntrospector {
+        @Override
+        public JsonFormat.Value findFormat(Annotated ann) {
+            JsonFormat.Value format = super.findFormat(ann);
+            if (format != null && format.getShape() == JsonFormat.Shape.STRING
+                    && (ann.getRawType() == Long.class || ann.getRawType() == long.class)) {
+                return format.withShape(JsonFormat.Shape.ANY);
+            }
+            return format;
+        }
+    }
+
+    private static class EpochDaySerializer extends StdSerializer<LocalDate> {
+        EpochDaySerializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public void serialize(LocalDate value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeNumber(value.toEpochDay());
+        }
+    }
+
+    private static class EpochMillisSerializer extends StdSerializer<LocalDateTime> {
+        EpochMillisSerializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeNumber(value.atZone(ZONE).toInstant().toEpochMilli());
+        }
+    }
+
+    private static class EpochDayDeserializer extends StdDeserializer<LocalDate> {
+        EpochDayDeserializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public LocalDate deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return LocalDate.ofEpochDay(p.getLongValue());
+        }
+    }
+
+    private static class EpochMillisDeserializer extends StdDeserializer<LocalDateTime> {
+        EpochMillisDeserializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public LocalDateTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(p.getLongValue()), ZONE);
+        }
+    }
+}
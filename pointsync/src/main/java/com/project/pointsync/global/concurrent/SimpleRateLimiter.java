@@ -0,0 +1,34 @@
+package com.project.pointsync.global.concurrent;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 초당 허용 횟수만큼 호출 간격을 벌려 주는 단순 rate limiter (여러 스레드 공유 가능)
+ * - 버스트 없이 일정 간격으로만 통과시킨다
+ */
+public class SimpleRateLimiter {
+
+    private final long intervalNanos;
+    private long nextFreeAt = System.nanoTime();
+
+    public SimpleRateLimiter(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond 는 0보다 커야 합니다.");
+        }
+        this.intervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+    }
+
+    /** 다음 허용 시점까지 대기 */
+    public void acquire() {
+        long at;
+        synchronized (this) {
+            at = Math.max(nextFreeAt, System.nanoTime());
+            nextFreeAt = at + intervalNanos;
+        }
+        // parkNanos 는 일찍 깨어날 수 있으므로 허용 시점까지 다시 잔다
+        long waitNanos;
+        while ((waitNanos = at - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.project.pointsync.global.config;
+
+import com.project.pointsync.global.cbor.CborObjectMapperFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+/**
+ * Accept: application/cbor 요청에 CBOR 로 응답
+ * - 기본 CBOR 컨버터를 같은 타입의 빈으로 대체한다 (JSON 컨버터가 앞에 있어 Accept 가 없거나 와일드카드면 기존처럼 JSON)
+ */
+@Configuration
+public class CborConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+        return new MappingJackson2CborHttpMessageConverter(CborObjectMapperFactory.create());
+    }
+}
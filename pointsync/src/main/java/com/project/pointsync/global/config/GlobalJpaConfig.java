@@ -0,0 +1,71 @@
+package com.project.pointsync.global.config;
+
+import com.project.pointsync.domain.ShardRing;
+import com.project.pointsync.domain.User;
+import com.project.pointsync.domain.UserShard;
+import com.project.pointsync.repository.ShardRingRepository;
+import com.project.pointsync.repository.UserRepository;
+import com.project.pointsync.repository.UserShardRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 전역 persistence unit: 사용자(users)와 샤드 배치(user_shard, shard_ring)
+ * - spring.datasource 를 그대로 사용하며, 기존 @Transactional 은 이 트랜잭션 매니저를 쓴다
+ */
+@Configuration
+@EnableJpaRepositories(
+        basePackageClasses = UserRepository.class,
+        includeFilters = @ComponentScan.Filter(
+                type = FilterType.ASSIGNABLE_TYPE,
+                classes = {UserRepository.class, UserShardRepository.class, ShardRingRepository.class}),
+        entityManagerFactoryRef = "entityManagerFactory",
+        transactionManagerRef = "transactionManager")
+public class GlobalJpaConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    public LocalContainerEntityManagerFactoryBean entityManagerFactory(EntityManagerFactoryBuilder builder,
+                                                                       @Qualifier("dataSource") HikariDataSource dataSource,
+                                                                       JpaProperties jpaProperties,
+                                                                       HibernateProperties hibernateProperties) {
+        return builder.dataSource(dataSource)
+                .managedTypes(PersistenceManagedTypes.of(
+                        User.class.getName(), UserShard.class.getName(), ShardRing.class.getName()))
+                .persistenceUnit("global")
+                .properties(hibernateProperties.determineHibernateProperties(
+                        jpaProperties.getProperties(), new HibernateSettings()))
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public PlatformTransactionManager transactionManager(
+            @Qualifier("entityManagerFactory") EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+}
@@ -0,0 +1,55 @@
+package com.project.pointsync.global.config;
+
+import com.project.pointsync.global.redis.RedisCircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * 호출처별 Redis 서킷 브레이커
+ * - 공통값은 pointsync.redis.circuit.*, 호출처별로 pointsync.redis.circuit.{name}.* 로 덮어쓴다
+ */
+@Configuration
+public class RedisCircuitConfig {
+
+    private static final String PREFIX = "pointsync.redis.circuit.";
+
+    /** 출석 중복 판정 SET NX (응답 경로) */
+    @Bean
+    public RedisCircuitBreaker checkInCircuitBreaker(MeterRegistry meterRegistry, Environment environment) {
+        return create("check-in", meterRegistry, environment);
+    }
+
+    /** 가입 이메일 Bloom filter 조회/등록 */
+    @Bean
+    public RedisCircuitBreaker emailBloomCircuitBreaker(MeterRegistry meterRegistry, Environment environment) {
+        return create("email-bloom", meterRegistry, environment);
+    }
+
+    /** 출석 통계 기록 (출석 저장 후 호출) */
+    @Bean
+    public RedisCircuitBreaker analyticsCircuitBreaker(MeterRegistry meterRegistry, Environment environment) {
+        return create("analytics", meterRegistry, environment);
+    }
+
+    /** 통계 게이지 주기 갱신 (BITCOUNT / BITOP 여러 건이라 느린 호출 기준을 따로 둔다) */
+    @Bean
+    public RedisCircuitBreaker analyticsGaugeCircuitBreaker(MeterRegistry meterRegistry, Environment environment) {
+        return create("analytics-gauges", meterRegistry, environment);
+    }
+
+    private static RedisCircuitBreaker create(String name, MeterRegistry meterRegistry, Environment environment) {
+        int failureThreshold = environment.getProperty(PREFIX + "failure-threshold", Integer.class, 5);
+        Duration slowCallThreshold = environment.getProperty(PREFIX + "slow-call-threshold", Duration.class,
+                Duration.ofMillis(200));
+        Duration openDuration = environment.getProperty(PREFIX + "open-duration", Duration.class,
+                Duration.ofSeconds(10));
+        return new RedisCircuitBreaker(name, meterRegistry,
+                environment.getProperty(PREFIX + name + ".failure-threshold", Integer.class, failureThreshold),
+                environment.getProperty(PREFIX + name + ".slow-call-threshold", Duration.class, slowCallThreshold),
+                environment.getProperty(PREFIX + name + ".open-duration", Duration.class, openDuration));
+    }
+}
@@ -0,0 +1,119 @@
+package com.project.pointsync.global.config;
+
+import com.project.pointsync.domain.AttendanceLog;
+import com.project.pointsync.domain.PointLedger;
+import com.project.pointsync.global.shard.ShardProperties;
+import com.project.pointsync.global.shard.ShardRoutingDataSource;
+import com.project.pointsync.global.shard.ShardSchemaIntegrator;
+import com.project.pointsync.repository.AttendanceLogRepository;
+import com.project.pointsync.repository.PointLedgerRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 샤드 persistence unit: 출석(attendance_log)과 포인트 원장(point_ledger)
+ * - pointsync.shards.datasources 의 각 DB 를 ShardRoutingDataSource 로 묶는다 (비어 있으면 기본 datasource 하나)
+ * - 리포지토리는 그대로 두고, 샤드 선택과 트랜잭션은 ShardTemplate 이 맡는다
+ */
+@Configuration
+@EnableConfigurationProperties(ShardProperties.class)
+@EnableJpaRepositories(
+        basePackageClasses = AttendanceLogRepository.class,
+        includeFilters = @ComponentScan.Filter(
+                type = FilterType.ASSIGNABLE_TYPE,
+                classes = {AttendanceLogRepository.class, PointLedgerRepository.class}),
+        entityManagerFactoryRef = "shardEntityManagerFactory",
+        transactionManagerRef = "shardTransactionManager")
+public class ShardJpaConfig {
+
+    private final ShardSchemaIntegrator schemaIntegrator = new ShardSchemaIntegrator();
+
+    @Bean
+    public ShardRoutingDataSource shardDataSource(ShardProperties properties,
+                                                  @Qualifier("dataSource") HikariDataSource defaultDataSource) {
+        Map<Object, Object> targets = new HashMap<>();
+        List<ShardProperties.DataSourceSpec> specs = properties.datasources();
+        if (specs.isEmpty()) {
+            targets.put(0, defaultDataSource);
+        }
+        for (int i = 0; i < specs.size(); i++) {
+            ShardProperties.DataSourceSpec spec = specs.get(i);
+            DataSourceBuilder<HikariDataSource> builder = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(spec.url())
+                    .username(spec.username())
+                    .password(spec.password());
+            if (spec.driverClassName() != null) {
+                builder.driverClassName(spec.driverClassName());
+            }
+            HikariDataSource ds = builder.build();
+            ds.setPoolName("shard-" + i);
+            ds.setMaximumPoolSize(spec.maximumPoolSize());
+            targets.put(i, ds);
+        }
+
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(targets.get(0));
+        routing.setLenientFallback(false);
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    @Bean
+    public LocalContainerEntityManagerFactoryBean shardEntityManagerFactory(EntityManagerFactoryBuilder builder,
+                                                                            ShardRoutingDataSource shardDataSource,
+                                                                            JpaProperties jpaProperties,
+                                                                            HibernateProperties hibernateProperties) {
+        Map<String, Object> properties = new HashMap<>(hibernateProperties.determineHibernateProperties(
+                jpaProperties.getProperties(), new HibernateSettings()));
+        properties.put("hibernate.integrator_provider", (IntegratorProvider) () -> List.of(schemaIntegrator));
+        return builder.dataSource(shardDataSource)
+                .managedTypes(PersistenceManagedTypes.of(AttendanceLog.class.getName(), PointLedger.class.getName()))
+                .persistenceUnit("shard")
+                .properties(properties)
+                .build();
+    }
+
+    @Bean
+    public PlatformTransactionManager shardTransactionManager(
+            @Qualifier("shardEntityManagerFactory") EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    /** 기본 샤드 외 나머지 샤드에도 스키마 작업(ddl-auto) 적용 */
+    @Bean
+    public InitializingBean shardSchemaInitializer(
+            @Qualifier("shardEntityManagerFactory") EntityManagerFactory entityManagerFactory,
+            ShardProperties properties) {
+        return () -> {
+            int count = properties.datasources().size();
+            if (count > 1) {
+                schemaIntegrator.applyTo(IntStream.range(1, count).boxed().toList());
+            }
+        };
+    }
+}
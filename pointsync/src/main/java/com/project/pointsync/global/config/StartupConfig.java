@@ -0,0 +1,23 @@
+package com.project.pointsync.global.config;
+
+import com.project.pointsync.global.startup.LazyBeanPackagesPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+@Configuration
+public class StartupConfig {
+
+    // BeanFactoryPostProcessor 는 다른 빈보다 먼저 만들어지므로 static 으로 등록
+    @Bean
+    public static LazyBeanPackagesPostProcessor lazyBeanPackagesPostProcessor(Environment environment) {
+        List<String> packages = Binder.get(environment)
+                .bind("pointsync.startup.lazy-bean-packages", Bindable.listOf(String.class))
+                .orElse(List.of());
+        return new LazyBeanPackagesPostProcessor(packages);
+    }
+}
@@ -10,7 +10,16 @@ public enum ErrorCode {
 
    //User
     USER_NOT_FOUND(HttpStatus.NOT_FOUND , "해당 사용자를 찾을 수 없습니다."),
-   USER_EMAIL_DUPLICATE(HttpStatus.BAD_REQUEST , "이미 가입된 이메일입니다.");
+   USER_EMAIL_DUPLICATE(HttpStatus.BAD_REQUEST , "이미 가입된 이메일입니다."),
+   USER_SHARD_MOVING(HttpStatus.SERVICE_UNAVAILABLE , "사용자 데이터를 이동 중입니다. 잠시 후 다시 시도해 주세요."),
+
+   //Admin
+   RECONCILIATION_IN_PROGRESS(HttpStatus.CONFLICT , "정합성 점검이 이미 실행 중입니다."),
+   SHARD_NOT_FOUND(HttpStatus.BAD_REQUEST , "존재하지 않는 샤드입니다."),
+   SHARD_REBALANCE_IN_PROGRESS(HttpStatus.CONFLICT , "샤드 재분배가 이미 실행 중입니다."),
+   SHARD_ROUTING_STALE(HttpStatus.SERVICE_UNAVAILABLE , "샤드 배치 정보를 갱신하지 못했습니다. 잠시 후 다시 시도해 주세요."),
+   ANALYTICS_INVALID_RANGE(HttpStatus.BAD_REQUEST , "조회 기간이 올바르지 않습니다."),
+   ANALYTICS_BACKFILL_IN_PROGRESS(HttpStatus.CONFLICT , "출석 통계 backfill 이 이미 실행 중입니다.");
 
     private final HttpStatus status;
     private final String message;
@@ -0,0 +1,90 @@
+package com.project.pointsync.global.id;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Map;
+
+/**
+ * Snowflake node id 결정
+ * 1. pointsync.id.node-id 설정값 (운영: 인스턴스마다 고유하게 지정)
+ * 2. pointsync.id.node-id-from-ordinal=true 일 때만 pod 이름(POD_NAME, 없으면 HOSTNAME)의 "-숫자" 접미사
+ *    - StatefulSet 전용. ip-10-0-1-23 같은 EC2 호스트명이나 Deployment 의 이름도 같은 형식이라 켜지 않으면 보지 않는다
+ *    - 켰는데 접미사가 없으면 기동을 중단한다
+ * 3. pointsync.id.allow-derived-node-id=true 일 때만 호스트명+pid 해시 (단일 머신 전용)
+ *    - 1024 칸에 해시하므로 노드 10대만 돼도 충돌 확률이 약 4%, 충돌하면 같은 id 가 발급된다
+ *    - 플래그 없이 1, 2 로 정해지지 않으면 기동을 중단한다
+ */
+@Slf4j
+public final class NodeIdResolver {
+
+    public static final String NODE_ID_SETTING = "pointsync.id.node-id";
+    public static final String FROM_ORDINAL_SETTING = "pointsync.id.node-id-from-ordinal";
+    public static final String ALLOW_DERIVED_SETTING = "pointsync.id.allow-derived-node-id";
+
+    private NodeIdResolver() {
+    }
+
+    public static int resolve(Map<String, Object> settings) {
+        String podName = System.getenv("POD_NAME");
+        return resolve(settings, podName != null && !podName.isBlank() ? podName : hostname());
+    }
+
+    static int resolve(Map<String, Object> settings, String host) {
+        Object configured = settings.get(NODE_ID_SETTING);
+        if (configured != null && !configured.toString().isBlank()) {
+            return Integer.parseInt(configured.toString().trim());
+        }
+
+        if (enabled(settings, FROM_ORDINAL_SETTING)) {
+            Integer ordinal = ordinalOf(host);
+            if (ordinal == null) {
+                throw new IllegalStateException(FROM_ORDINAL_SETTING + "=true 인데 pod 이름에 0~"
+                        + Snowflake.MAX_NODE_ID + " 의 \"-숫자\" 접미사가 없습니다. host=" + host);
+            }
+            return ordinal;
+        }
+
+        if (!enabled(settings, ALLOW_DERIVED_SETTING)) {
+            throw new IllegalStateException(NODE_ID_SETTING + " 미설정 host=" + host
+                    + " (인스턴스마다 고유한 0~" + Snowflake.MAX_NODE_ID + " 을 지정하거나, StatefulSet 이면 "
+                    + FROM_ORDINAL_SETTING + "=true, 단일 머신이면 " + ALLOW_DERIVED_SETTING + "=true)");
+        }
+        int derived = Math.floorMod((host + ":" + ProcessHandle.current().pid()).hashCode(), Snowflake.MAX_NODE_ID + 1);
+        log.warn("{} 미설정, 호스트 기반 node id 사용 host={}, nodeId={} (단일 머신 전용)",
+                NODE_ID_SETTING, host, derived);
+        return derived;
+    }
+
+    // StatefulSet pod 이름 "{이름}-{ordinal}" 의 ordinal
+    private static Integer ordinalOf(String host) {
+        int dash = host.lastIndexOf('-');
+        if (dash < 0 || dash == host.length() - 1) {
+            return null;
+        }
+        String suffix = host.substring(dash + 1);
+        if (!suffix.chars().allMatch(Character::isDigit) || suffix.length() > 4) {
+            return null;
+        }
+        int ordinal = Integer.parseInt(suffix);
+        return ordinal <= Snowflake.MAX_NODE_ID ? ordinal : null;
+    }
+
+    private static boolean enabled(Map<String, Object> settings, String key) {
+        Object value = settings.get(key);
+        return value != null && Boolean.parseBoolean(value.toString().trim());
+    }
+
+    private static String hostname() {
+        String env = System.getenv("HOSTNAME");
+        if (env != null && !env.isBlank()) {
+            return env;
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "localhost";
+        }
+    }
+}
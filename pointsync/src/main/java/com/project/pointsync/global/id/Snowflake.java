@@ -0,0 +1,65 @@
+package com.project.pointsync.global.id;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 형식 64bit ID 생성기
+ * - [부호 1bit][2024-01-01 기준 ms 41bit][node 10bit][sequence 12bit]
+ * - 같은 노드에서는 항상 단조 증가 (시계가 뒤로 가도 마지막 시각 기준으로 이어서 발급)
+ * - 같은 ms 안에서 sequence 가 다 차면 다음 ms 를 미리 당겨 쓴다 (대기 없음)
+ */
+public class Snowflake {
+
+    public static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    // 노드별 인스턴스 공유: 여러 엔티티가 같은 시퀀스를 쓰면 테이블 간에도 id 가 겹치지 않는다
+    private static final Map<Integer, Snowflake> INSTANCES = new ConcurrentHashMap<>();
+
+    private final long nodeId;
+    private final LongSupplier clock;
+
+    private long lastMillis = -1L;
+    private long sequence = 0L;
+
+    Snowflake(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId 는 0~" + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    public static Snowflake forNode(int nodeId) {
+        return INSTANCES.computeIfAbsent(nodeId, id -> new Snowflake(id, System::currentTimeMillis));
+    }
+
+    public synchronized long nextId() {
+        long now = clock.getAsLong();
+        if (now > lastMillis) {
+            lastMillis = now;
+            sequence = 0L;
+        } else {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0L) {
+                lastMillis++;
+            }
+        }
+        return ((lastMillis - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    /** epochMillis 이후 발급된 id 는 모두 이 값 이상 (id 범위로 시각을 자를 때) */
+    public static long minIdAt(long epochMillis) {
+        return Math.max(0L, epochMillis - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS);
+    }
+}
+
@@ -0,0 +1,18 @@
+package com.project.pointsync.global.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 시간순 분산 ID (time + node + sequence) 를 메모리에서 할당
+ * - IDENTITY 와 달리 INSERT 전에 id 가 정해지므로 JDBC batch insert 가 가능하다
+ */
+@IdGeneratorType(SnowflakeIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
@@ -0,0 +1,27 @@
+package com.project.pointsync.global.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+
+/**
+ * {@link SnowflakeId} 가 붙은 식별자에 Snowflake id 를 할당하는 Hibernate 생성기
+ * - node id 는 hibernate 설정(spring.jpa.properties.pointsync.id.node-id)에서 읽는다
+ */
+public class SnowflakeIdGenerator implements IdentifierGenerator {
+
+    private final Snowflake snowflake;
+
+    public SnowflakeIdGenerator(SnowflakeId config, Member member, CustomIdGeneratorCreationContext context) {
+        ConfigurationService configuration = context.getServiceRegistry().getService(ConfigurationService.class);
+        this.snowflake = Snowflake.forNode(NodeIdResolver.resolve(configuration.getSettings()));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return snowflake.nextId();
+    }
+}
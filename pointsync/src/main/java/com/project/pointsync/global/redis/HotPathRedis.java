@@ -0,0 +1,51 @@
+package com.project.pointsync.global.redis;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 응답 경로(출석 중복 판정, 출석 통계 기록) 전용 Redis 연결
+ * - 기본 연결(spring.data.redis.timeout)은 rebuild / 정합성 점검 / backfill 파이프라인에 맞춰 길게 두고,
+ *   응답 경로만 짧은 명령 타임아웃(pointsync.redis.hot-path-timeout)으로 끊는다
+ * - 연결 팩토리를 빈으로 등록하지 않아 기본 자동 설정(RedisConnectionFactory, StringRedisTemplate)은 그대로 쓴다
+ */
+@Component
+public class HotPathRedis implements DisposableBean {
+
+    private final LettuceConnectionFactory connectionFactory;
+    private final StringRedisTemplate template;
+
+    public HotPathRedis(RedisProperties properties,
+                        @Value("${pointsync.redis.hot-path-timeout:250ms}") Duration commandTimeout) {
+        RedisStandaloneConfiguration server = new RedisStandaloneConfiguration(properties.getHost(), properties.getPort());
+        server.setDatabase(properties.getDatabase());
+        server.setUsername(properties.getUsername());
+        if (properties.getPassword() != null) {
+            server.setPassword(properties.getPassword());
+        }
+        LettuceClientConfiguration client = LettuceClientConfiguration.builder()
+                .commandTimeout(commandTimeout)
+                .build();
+        this.connectionFactory = new LettuceConnectionFactory(server, client);
+        this.connectionFactory.afterPropertiesSet();
+        this.connectionFactory.start();
+        this.template = new StringRedisTemplate(connectionFactory);
+    }
+
+    public StringRedisTemplate template() {
+        return template;
+    }
+
+    @Override
+    public void destroy() {
+        connectionFactory.destroy();
+    }
+}
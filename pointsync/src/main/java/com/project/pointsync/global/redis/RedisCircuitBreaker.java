@@ -0,0 +1,153 @@
+package com.project.pointsync.global.redis;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Redis 호출용 서킷 브레이커
+ * - 연속 실패(예외 또는 느린 응답)가 임계치를 넘으면 OPEN: 이후 호출은 Redis 를 건드리지 않고 바로 fallback
+ * - open-duration 이 지나면 HALF_OPEN: 한 건만 시험 호출하고, 성공하면 CLOSED 로 복귀
+ * - 상태 전이는 리스너로 알린다 (복구 시 로컬 상태 재동기화 등)
+ * - 호출처마다 따로 만든다 (RedisCircuitConfig). 배치성 호출이 느려져도 출석 체크 경로의 서킷은 열리지 않게
+ */
+@Slf4j
+public class RedisCircuitBreaker {
+
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private enum Permit { NORMAL, PROBE, REJECTED }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean probeInFlight = new AtomicBoolean(false);
+    private volatile long openedAt;
+
+    private final List<Consumer<State>> listeners = new CopyOnWriteArrayList<>();
+
+    public RedisCircuitBreaker(String name,
+                               MeterRegistry meterRegistry,
+                               int failureThreshold,
+                               Duration slowCallThreshold,
+                               Duration openDuration) {
+        this.name = name;
+        this.meterRegistry = meterRegistry;
+        this.failureThreshold = failureThreshold;
+        this.slowCallNanos = slowCallThreshold.toNanos();
+        this.openNanos = openDuration.toNanos();
+
+        Gauge.builder("pointsync.redis.circuit.state", state, s -> s.get().ordinal())
+                .description("Redis 서킷 상태 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /** Redis 호출. 서킷이 열려 있거나 호출이 실패하면 fallback 결과를 돌려준다 */
+    public <T> T execute(Supplier<T> call, Supplier<T> fallback) {
+        Permit permit = acquirePermit();
+        if (permit == Permit.REJECTED) {
+            countCall("rejected");
+            return fallback.get();
+        }
+
+        long started = System.nanoTime();
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            countCall("failure");
+            onFailure(permit);
+            log.warn("Redis 호출 실패, fallback 사용 circuit={}, state={}", name, state.get(), e);
+            return fallback.get();
+        }
+
+        if (System.nanoTime() - started > slowCallNanos) {
+            // 느린 응답도 장애 징후로 본다 (결과는 그대로 사용)
+            countCall("slow");
+            onFailure(permit);
+        } else {
+            countCall("success");
+            onSuccess(permit);
+        }
+        return result;
+    }
+
+    /** 상태 전이 리스너 등록 (새 상태가 전달됨) */
+    public void addListener(Consumer<State> listener) {
+        listeners.add(listener);
+    }
+
+    private Permit acquirePermit() {
+        State current = state.get();
+        if (current == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                return Permit.REJECTED;
+            }
+            transition(State.OPEN, State.HALF_OPEN);
+            current = state.get();
+        }
+        if (current == State.HALF_OPEN) {
+            return probeInFlight.compareAndSet(false, true) ? Permit.PROBE : Permit.REJECTED;
+        }
+        return Permit.NORMAL;
+    }
+
+    private void onSuccess(Permit permit) {
+        consecutiveFailures.set(0);
+        if (permit == Permit.PROBE) {
+            transition(State.HALF_OPEN, State.CLOSED);
+            probeInFlight.set(false);
+        }
+    }
+
+    private void onFailure(Permit permit) {
+        if (permit == Permit.PROBE) {
+            openedAt = System.nanoTime();
+            transition(State.HALF_OPEN, State.OPEN);
+            probeInFlight.set(false);
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt = System.nanoTime();
+            if (transition(State.CLOSED, State.OPEN)) {
+                consecutiveFailures.set(0);
+            }
+        }
+    }
+
+    private boolean transition(State from, State to) {
+        if (!state.compareAndSet(from, to)) {
+            return false;
+        }
+        log.warn("Redis 서킷 상태 변경 circuit={} {} -> {}", name, from, to);
+        meterRegistry.counter("pointsync.redis.circuit.transitions", "name", name, "from", from.name(), "to", to.name())
+                .increment();
+        for (Consumer<State> listener : listeners) {
+            try {
+                listener.accept(to);
+            } catch (RuntimeException e) {
+                log.warn("Redis 서킷 리스너 실행 실패 circuit={}, state={}", name, to, e);
+            }
+        }
+        return true;
+    }
+
+    private void countCall(String outcome) {
+        meterRegistry.counter("pointsync.redis.circuit.calls", "name", name, "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,46 @@
+package com.project.pointsync.global.redis;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/** DB 에서 파생된 Redis 키 형식 모음 */
+public final class RedisKeys {
+
+    public static final String ATTENDANCE_PREFIX = "attendance:";
+    public static final String ANALYTICS_PREFIX = "analytics:";
+
+    /** userId -> bitmap offset(0부터 촘촘하게 증가) 해시 */
+    public static final String ANALYTICS_ORDINALS = ANALYTICS_PREFIX + "user-ordinal";
+    public static final String ANALYTICS_ORDINAL_SEQ = ANALYTICS_PREFIX + "user-ordinal:seq";
+
+    private RedisKeys() {
+    }
+
+    /** 오늘 출석 여부 캐시: attendance:{userId}:{date} */
+    public static String attendance(Long userId, LocalDate date) {
+        return ATTENDANCE_PREFIX + userId + ":" + date;
+    }
+
+    /** 일별 출석 사용자 bitmap: analytics:dau:{date} (offset = 사용자 ordinal) */
+    public static String dailyActive(LocalDate date) {
+        return ANALYTICS_PREFIX + "dau:" + date;
+    }
+
+    /** 월별 출석 사용자 HyperLogLog: analytics:mau:{yyyy-MM} */
+    public static String monthlyActive(YearMonth month) {
+        return ANALYTICS_PREFIX + "mau:" + month;
+    }
+
+    /** attendance:{userId}:{date} 에서 userId 추출, 형식이 다르면 null */
+    public static Long attendanceUserId(String key) {
+        String[] parts = key.split(":");
+        if (parts.length != 3 || !key.startsWith(ATTENDANCE_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(parts[1]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
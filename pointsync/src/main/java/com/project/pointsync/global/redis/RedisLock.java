@@ -0,0 +1,55 @@
+package com.project.pointsync.global.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 서버 간 작업 잠금 (SET NX + TTL)
+ * - 잠금 값은 잡을 때마다 새 토큰이라, TTL 이 지나 다른 서버가 잡은 잠금을 연장/해제하지 않는다
+ * - 오래 걸리는 작업은 진행 중에 extend 로 TTL 을 늘리고, false 면 잠금을 잃은 것으로 보고 중단한다
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+
+    /** 잠금 획득 시 토큰, 이미 잡혀 있으면 null */
+    public String tryLock(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redis.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(locked) ? token : null;
+    }
+
+    /** 아직 내 잠금이면 TTL 을 다시 설정하고 true */
+    public boolean extend(String key, String token, Duration ttl) {
+        Long result = redis.execute(EXTEND_SCRIPT, List.of(key), token, String.valueOf(ttl.toMillis()));
+        return result != null && result == 1L;
+    }
+
+    /** 내 잠금일 때만 해제 */
+    public void unlock(String key, String token) {
+        redis.execute(RELEASE_SCRIPT, List.of(key), token);
+    }
+}
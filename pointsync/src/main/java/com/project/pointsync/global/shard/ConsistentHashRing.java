@@ -0,0 +1,41 @@
+package com.project.pointsync.global.shard;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * userId -> 샤드 consistent hash ring (샤드마다 virtualNodes 개의 가상 노드)
+ * - 샤드를 추가해도 약 1/N 사용자만 위치가 바뀐다
+ */
+public class ConsistentHashRing {
+
+    private final NavigableMap<Long, Integer> ring = new TreeMap<>();
+
+    public ConsistentHashRing(Collection<Integer> shards, int virtualNodes) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("ring 에는 샤드가 하나 이상 있어야 합니다.");
+        }
+        for (int shard : shards) {
+            for (int v = 0; v < virtualNodes; v++) {
+                ring.put(mix64(((long) shard << 32) | v), shard);
+            }
+        }
+    }
+
+    public int shardOf(long key) {
+        Map.Entry<Long, Integer> e = ring.ceilingEntry(mix64(key));
+        return (e != null ? e : ring.firstEntry()).getValue();
+    }
+
+    // 연속/시간순 id 도 고르게 퍼지도록 murmur3 fmix64 적용
+    private static long mix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
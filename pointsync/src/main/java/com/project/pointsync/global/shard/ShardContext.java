@@ -0,0 +1,29 @@
+package com.project.pointsync.global.shard;
+
+/** 현재 스레드가 사용할 샤드 번호 (ShardRoutingDataSource 가 커넥션을 고를 때 참조) */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    /** 샤드 지정, 이전 값을 돌려준다 */
+    static Integer set(Integer shard) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        return previous;
+    }
+
+    static void restore(Integer previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.project.pointsync.global.shard;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 출석/포인트 샤드 설정 (pointsync.shards)
+ * - datasources 가 비어 있으면 기본 datasource 하나를 0번 샤드로 쓴다
+ * - ring 은 shard_ring 테이블이 비어 있을 때만 쓰는 초기 구성 (비우면 전체). 이후 구성 변경은 rebalance API 로 하고
+ *   shard_ring 이 기준이 된다. 새 샤드는 datasources 에 먼저 추가한 뒤 rebalance 한다
+ * - max-staleness: 마지막 갱신 성공이 이보다 오래되면 쓰기를 거절한다 (propagation-delay 보다 짧게)
+ */
+@ConfigurationProperties(prefix = "pointsync.shards")
+public record ShardProperties(
+        List<DataSourceSpec> datasources,
+        List<Integer> ring,
+        @DefaultValue("128") int virtualNodes,
+        @DefaultValue("PT10S") Duration refreshInterval,
+        @DefaultValue("PT30S") Duration propagationDelay,
+        @DefaultValue("PT20S") Duration maxStaleness
+) {
+    public ShardProperties {
+        datasources = datasources == null ? List.of() : datasources;
+        ring = ring == null ? List.of() : ring;
+    }
+
+    public record DataSourceSpec(
+            String url,
+            String username,
+            String password,
+            String driverClassName,
+            @DefaultValue("10") int maximumPoolSize
+    ) {}
+}
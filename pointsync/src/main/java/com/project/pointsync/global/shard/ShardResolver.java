@@ -0,0 +1,211 @@
+package com.project.pointsync.global.shard;
+
+import com.project.pointsync.domain.ShardRing;
+import com.project.pointsync.domain.UserShard;
+import com.project.pointsync.repository.ShardRingRepository;
+import com.project.pointsync.repository.UserShardRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * userId 가 어느 샤드에 있는지 결정
+ * - 기본은 shard_ring 의 consistent hash ring, 리샤딩으로 옮겨진 사용자는 user_shard 테이블 값이 우선
+ * - 재분배 중에는 cutover 이후 가입한 사용자를 목표 ring 으로 보낸다 (옮길 필요가 없도록)
+ * - 주기 갱신은 워터마크 이후 바뀐 user_shard 와 이동 중인 행만 읽고, ring version 이 바뀌었을 때만 전부 다시 읽는다
+ * - 갱신이 max-staleness 넘게 실패하면 isStale: 다른 서버의 이동 표시를 놓쳤을 수 있어 쓰기를 막는다 (ShardTemplate)
+ */
+@Component
+@Slf4j
+public class ShardResolver {
+
+    // 워터마크보다 이만큼 앞부터 다시 읽는다 (서버 간 시계 차이, 늦게 커밋된 트랜잭션)
+    private static final Duration WATERMARK_OVERLAP = Duration.ofMinutes(1);
+    private static final int PAGE_SIZE = 10_000;
+
+    private final ShardProperties properties;
+    private final UserShardRepository userShardRepository;
+    private final ShardRingRepository shardRingRepository;
+    private final int shardCount;
+
+    private volatile RingState ringState;
+    private volatile Map<Long, Integer> overrides = new ConcurrentHashMap<>();
+    private volatile Set<Long> moving = ConcurrentHashMap.newKeySet();
+    private volatile LocalDateTime watermark;
+    private volatile long lastRefreshNanos;
+
+    public ShardResolver(ShardProperties properties,
+                         UserShardRepository userShardRepository,
+                         ShardRingRepository shardRingRepository) {
+        this.properties = properties;
+        this.userShardRepository = userShardRepository;
+        this.shardRingRepository = shardRingRepository;
+        this.shardCount = Math.max(1, properties.datasources().size());
+        Duration propagationDelay = properties.propagationDelay();
+        if (!propagationDelay.isZero() && properties.maxStaleness().compareTo(propagationDelay) >= 0) {
+            log.warn("pointsync.shards.max-staleness({}) 가 propagation-delay({}) 보다 짧아야 이동 중 쓰기를 막을 수 있습니다.",
+                    properties.maxStaleness(), propagationDelay);
+        }
+    }
+
+    public int shardOf(Long userId) {
+        Integer pinned = overrides.get(userId);
+        return pinned != null ? pinned : ringState.shardOf(userId);
+    }
+
+    /** 리샤딩 중인 사용자 (쓰기 금지) */
+    public boolean isMoving(Long userId) {
+        return moving.contains(userId);
+    }
+
+    /** 마지막 갱신 성공이 max-staleness 보다 오래됨 (쓰기 금지) */
+    public boolean isStale() {
+        return System.nanoTime() - lastRefreshNanos > properties.maxStaleness().toNanos();
+    }
+
+    /** 설정된 모든 샤드 번호 (ring 에 아직 없는 샤드 포함) */
+    public List<Integer> shardIds() {
+        return IntStream.range(0, shardCount).boxed().toList();
+    }
+
+    /** 현재 ring 구성 (재분배 중이면 아직 이전 구성) */
+    public List<Integer> ringShards() {
+        return ringState.ring();
+    }
+
+    /** 다른 ring 구성 기준 샤드 (rebalance 계획용) */
+    public ConsistentHashRing ringOf(List<Integer> shards) {
+        return new ConsistentHashRing(shards, properties.virtualNodes());
+    }
+
+    /** 기동 시 전체 적재 (실패하면 기동 실패) */
+    @PostConstruct
+    public synchronized void load() {
+        reload(loadRing());
+    }
+
+    @Scheduled(fixedDelayString = "${pointsync.shards.refresh-interval:PT10S}")
+    public synchronized void refresh() {
+        try {
+            ShardRing ring = loadRing();
+            if (ring.getVersion() != ringState.version()) {
+                reload(ring);
+            } else {
+                refreshChanged();
+            }
+        } catch (RuntimeException e) {
+            log.warn("샤드 배치 갱신 실패 (max-staleness={} 지나면 쓰기 거절)", properties.maxStaleness(), e);
+        }
+    }
+
+    /** 이 서버에서 바로 반영 (리샤딩 도구가 ring 을 바꾼 직후) */
+    public synchronized void apply(ShardRing ring) {
+        if (ring.getVersion() != ringState.version()) {
+            reload(ring);
+        }
+    }
+
+    /** 이 서버에서 바로 반영 (리샤딩 도구가 상태를 바꾼 직후) */
+    public void apply(UserShard row) {
+        overrides.put(row.getUserId(), row.getShardId());
+        if (row.isMoving()) {
+            moving.add(row.getUserId());
+        } else {
+            moving.remove(row.getUserId());
+        }
+    }
+
+    private void reload(ShardRing ring) {
+        long startedNanos = System.nanoTime();
+        // updated_at 은 JPA auditing 이 서버 기본 시간대로 채운다
+        LocalDateTime started = LocalDateTime.now();
+        Map<Long, Integer> nextOverrides = new ConcurrentHashMap<>();
+        Set<Long> nextMoving = ConcurrentHashMap.newKeySet();
+        long afterId = 0L;
+        while (true) {
+            List<UserShard> rows = userShardRepository.findByUserIdGreaterThanOrderByUserIdAsc(
+                    afterId, PageRequest.of(0, PAGE_SIZE));
+            for (UserShard row : rows) {
+                nextOverrides.put(row.getUserId(), row.getShardId());
+                if (row.isMoving()) {
+                    nextMoving.add(row.getUserId());
+                }
+            }
+            if (rows.size() < PAGE_SIZE) {
+                break;
+            }
+            afterId = rows.get(rows.size() - 1).getUserId();
+        }
+        // 배치를 먼저 바꾸고 ring 을 바꾼다 (ring 전환 시점에는 옮겨진 사용자가 모두 배치에 있다)
+        overrides = nextOverrides;
+        moving = nextMoving;
+        RingState previous = ringState;
+        ringState = RingState.of(ring, properties.virtualNodes());
+        watermark = started;
+        lastRefreshNanos = startedNanos;
+        if (previous != null) {
+            log.info("샤드 ring 갱신 version={}, ring={}, target={}, cutoverUserId={}, pinned={}",
+                    ring.getVersion(), ring.ringShards(), ring.targetShards(), ring.getCutoverUserId(),
+                    nextOverrides.size());
+        }
+    }
+
+    private void refreshChanged() {
+        long startedNanos = System.nanoTime();
+        LocalDateTime started = LocalDateTime.now();
+        for (UserShard row : userShardRepository.findByUpdatedAtGreaterThanEqual(watermark.minus(WATERMARK_OVERLAP))) {
+            overrides.put(row.getUserId(), row.getShardId());
+        }
+        Set<Long> nextMoving = ConcurrentHashMap.newKeySet();
+        for (UserShard row : userShardRepository.findByTargetShardIdIsNotNull()) {
+            overrides.put(row.getUserId(), row.getShardId());
+            nextMoving.add(row.getUserId());
+        }
+        moving = nextMoving;
+        watermark = started;
+        lastRefreshNanos = startedNanos;
+    }
+
+    private ShardRing loadRing() {
+        return shardRingRepository.findById(ShardRing.ID).orElseGet(this::createRing);
+    }
+
+    // 처음 뜨는 서버가 설정의 ring 으로 행을 만든다
+    private ShardRing createRing() {
+        List<Integer> initial = properties.ring().isEmpty() ? shardIds() : properties.ring();
+        try {
+            return shardRingRepository.saveAndFlush(ShardRing.initial(initial));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버가 먼저 만듦
+            return shardRingRepository.findById(ShardRing.ID).orElseThrow(() -> e);
+        }
+    }
+
+    private record RingState(long version, List<Integer> ring, ConsistentHashRing current,
+                             ConsistentHashRing target, long cutoverUserId) {
+
+        static RingState of(ShardRing row, int virtualNodes) {
+            List<Integer> ring = row.ringShards();
+            List<Integer> target = row.targetShards();
+            return new RingState(row.getVersion(), ring,
+                    new ConsistentHashRing(ring, virtualNodes),
+                    target == null ? null : new ConsistentHashRing(target, virtualNodes),
+                    row.getCutoverUserId() == null ? Long.MAX_VALUE : row.getCutoverUserId());
+        }
+
+        int shardOf(long userId) {
+            return target != null && userId >= cutoverUserId ? target.shardOf(userId) : current.shardOf(userId);
+        }
+    }
+}
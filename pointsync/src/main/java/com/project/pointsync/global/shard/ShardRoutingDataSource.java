@@ -0,0 +1,16 @@
+package com.project.pointsync.global.shard;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * ShardContext 에 지정된 샤드의 DataSource 로 커넥션을 넘긴다
+ * - 지정이 없으면 기본(0번) 샤드: 기동 시 Hibernate 메타데이터 조회용
+ * - 커넥션은 트랜잭션 시작 시점에 잡히므로 ShardTemplate 으로 샤드를 먼저 정한 뒤 트랜잭션을 연다
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+}
@@ -0,0 +1,47 @@
+package com.project.pointsync.global.shard;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
+
+import java.util.List;
+
+/**
+ * 샤드 persistence unit 의 스키마 처리(ddl-auto)를 모든 샤드에 적용
+ * - Hibernate 는 기동 시 기본(0번) 샤드에만 스키마 작업을 하므로, 매핑 메타데이터를 잡아 두었다가
+ *   나머지 샤드마다 ShardContext 를 바꿔 같은 작업을 반복한다
+ */
+public class ShardSchemaIntegrator implements Integrator {
+
+    private volatile Metadata metadata;
+    private volatile SessionFactoryImplementor sessionFactory;
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        this.metadata = metadata;
+        this.sessionFactory = sessionFactory;
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    public void applyTo(List<Integer> shards) {
+        if (metadata == null) {
+            throw new IllegalStateException("샤드 EntityManagerFactory 가 아직 초기화되지 않았습니다.");
+        }
+        for (int shard : shards) {
+            Integer previous = ShardContext.set(shard);
+            try {
+                // create-drop 의 drop 은 등록하지 않는다 (샤드별 종료 시점 drop 은 지원하지 않음)
+                SchemaManagementToolCoordinator.process(metadata, sessionFactory.getServiceRegistry(),
+                        sessionFactory.getProperties(), action -> { });
+            } finally {
+                ShardContext.restore(previous);
+            }
+        }
+    }
+}
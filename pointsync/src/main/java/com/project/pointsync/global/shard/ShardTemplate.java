@@ -0,0 +1,102 @@
+package com.project.pointsync.global.shard;
+
+import com.project.pointsync.global.exception.CustomException;
+import com.project.pointsync.global.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 샤드 트랜잭션 실행기
+ * - userId 로 샤드를 고른 뒤 그 샤드에서 트랜잭션을 연다 (출석/포인트 리포지토리는 반드시 이 안에서 호출)
+ * - 다른 샤드 작업이 중첩되면 새 트랜잭션으로 분리한다
+ * - fanOut: 모든 샤드에 같은 조회를 병렬로 실행 (관리자용 전체 조회)
+ */
+@Component
+public class ShardTemplate {
+
+    private final PlatformTransactionManager transactionManager;
+    private final ShardResolver resolver;
+    private final ExecutorService fanOutExecutor;
+
+    public ShardTemplate(@Qualifier("shardTransactionManager") PlatformTransactionManager transactionManager,
+                         ShardResolver resolver) {
+        this.transactionManager = transactionManager;
+        this.resolver = resolver;
+        this.fanOutExecutor = Executors.newFixedThreadPool(Math.max(2, resolver.shardIds().size()));
+    }
+
+    /** 사용자 샤드에서 읽기 전용 트랜잭션 */
+    public <T> T read(Long userId, Supplier<T> action) {
+        return onShard(resolver.shardOf(userId), true, action);
+    }
+
+    /**
+     * 사용자 샤드에서 쓰기 트랜잭션 (리샤딩 중인 사용자는 거절)
+     * - 커밋 직전에 한 번 더 확인한다: 트랜잭션 도중 이동이 시작/완료됐으면 롤백해서
+     *   복사가 놓치거나 원래 샤드 정리(deleteSource)에 지워질 쓰기를 남기지 않는다
+     */
+    public <T> T write(Long userId, Supplier<T> action) {
+        int shard = writableShardOf(userId);
+        return onShard(shard, false, () -> {
+            T result = action.get();
+            if (writableShardOf(userId) != shard) {
+                throw new CustomException(ErrorCode.USER_SHARD_MOVING);
+            }
+            return result;
+        });
+    }
+
+    public <T> T onShard(int shard, boolean readOnly, Supplier<T> action) {
+        Integer previous = ShardContext.set(shard);
+        try {
+            TransactionTemplate tx = new TransactionTemplate(transactionManager);
+            tx.setReadOnly(readOnly);
+            if (previous != null && previous != shard) {
+                // 이미 다른 샤드 트랜잭션 안이면 합류하지 않고 새로 연다
+                tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            }
+            return tx.execute(status -> action.get());
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+
+    // 배치 정보가 오래됐으면 이동 표시를 놓쳤을 수 있어 거절
+    private int writableShardOf(Long userId) {
+        if (resolver.isStale()) {
+            throw new CustomException(ErrorCode.SHARD_ROUTING_STALE);
+        }
+        if (resolver.isMoving(userId)) {
+            throw new CustomException(ErrorCode.USER_SHARD_MOVING);
+        }
+        return resolver.shardOf(userId);
+    }
+
+    /** 모든 샤드에서 병렬 조회 후 샤드 번호 순서대로 결과 반환 */
+    public <T> List<T> fanOut(Function<Integer, T> perShard) {
+        List<CompletableFuture<T>> futures = new ArrayList<>();
+        for (int shard : resolver.shardIds()) {
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> onShard(shard, true, () -> perShard.apply(shard)), fanOutExecutor));
+        }
+        return futures.stream().map(CompletableFuture::join).filter(Objects::nonNull).toList();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        fanOutExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.pointsync.global.startup;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.type.MethodMetadata;
+
+import java.util.List;
+
+/**
+ * 지정한 패키지의 빈을 첫 사용 시점까지 지연 초기화 (springdoc 처럼 트래픽 처리에 필요 없는 빈)
+ * - 클래스 또는 @Bean 메서드를 선언한 설정 클래스가 해당 패키지면 대상
+ * - AOT 실행(-Dspring.aot.enabled=true) 시에는 processAot 시점에 적용된 결과가 그대로 쓰인다
+ */
+public class LazyBeanPackagesPostProcessor implements BeanFactoryPostProcessor {
+
+    private final List<String> packages;
+
+    public LazyBeanPackagesPostProcessor(List<String> packages) {
+        this.packages = packages.stream().map(p -> p.endsWith(".") ? p : p + ".").toList();
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        if (packages.isEmpty()) {
+            return;
+        }
+        for (String name : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(name);
+            if (!definition.isLazyInit() && matches(declaringClassName(definition))) {
+                definition.setLazyInit(true);
+            }
+        }
+    }
+
+    private static String declaringClassName(BeanDefinition definition) {
+        if (definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            if (factoryMethod != null) {
+                return factoryMethod.getDeclaringClassName();
+            }
+        }
+        return definition.getBeanClassName();
+    }
+
+    private boolean matches(String className) {
+        return className != null && packages.stream().anyMatch(className::startsWith);
+    }
+}
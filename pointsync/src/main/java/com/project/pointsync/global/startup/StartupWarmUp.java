@@ -0,0 +1,119 @@
+package com.project.pointsync.global.startup;
+
+import com.project.pointsync.global.shard.ShardRoutingDataSource;
+import com.project.pointsync.global.shard.ShardTemplate;
+import com.project.pointsync.global.time.TimeProvider;
+import com.project.pointsync.repository.AttendanceLogRepository;
+import com.project.pointsync.repository.PointLedgerRepository;
+import com.project.pointsync.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * readiness 전에 커넥션과 첫 요청 경로를 미리 데운다
+ * - ApplicationRunner 가 끝나야 ReadinessState.ACCEPTING_TRAFFIC 이 되므로, 여기서 막힌 동안은 트래픽을 받지 않는다
+ * - Hikari: 전역/샤드 풀마다 minimum-idle 개수만큼 커넥션을 동시에 잡았다 놓아 풀을 채운다
+ * - JPA: 출석 경로의 쿼리를 한 번씩 실행 (리포지토리 프록시, 쿼리 플랜 캐시)
+ * - Redis: 연결을 맺고 PING. 실패해도 서킷 브레이커 경로로 동작할 수 있으므로 기동은 계속한다
+ * - pointsync.startup.warm-up 이 true 일 때만 (prod 프로파일). 로컬/테스트 기동은 기다리지 않는다
+ */
+@Component
+@Slf4j
+public class StartupWarmUp implements ApplicationRunner {
+
+    private final DataSource dataSource;
+    private final ShardRoutingDataSource shardDataSource;
+    private final ShardTemplate shardTemplate;
+    private final UserRepository userRepository;
+    private final AttendanceLogRepository attendanceLogRepository;
+    private final PointLedgerRepository pointLedgerRepository;
+    private final StringRedisTemplate redis;
+    private final TimeProvider time;
+    private final boolean enabled;
+
+    public StartupWarmUp(@Qualifier("dataSource") DataSource dataSource,
+                         ShardRoutingDataSource shardDataSource,
+                         ShardTemplate shardTemplate,
+                         UserRepository userRepository,
+                         AttendanceLogRepository attendanceLogRepository,
+                         PointLedgerRepository pointLedgerRepository,
+                         StringRedisTemplate redis,
+                         TimeProvider time,
+                         @Value("${pointsync.startup.warm-up:false}") boolean enabled) {
+        this.dataSource = dataSource;
+        this.shardDataSource = shardDataSource;
+        this.shardTemplate = shardTemplate;
+        this.userRepository = userRepository;
+        this.attendanceLogRepository = attendanceLogRepository;
+        this.pointLedgerRepository = pointLedgerRepository;
+        this.redis = redis;
+        this.time = time;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        if (!enabled) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+
+        // 0번 샤드가 기본 datasource 를 그대로 쓰는 경우가 있어 같은 풀은 한 번만
+        Set<DataSource> pools = Collections.newSetFromMap(new IdentityHashMap<>());
+        pools.add(dataSource);
+        pools.addAll(shardDataSource.getResolvedDataSources().values());
+        for (DataSource pool : pools) {
+            fill(pool);
+        }
+
+        // 존재하지 않는 id 로 조회만 한다 (쓰기 없음)
+        LocalDate today = time.today();
+        userRepository.findActiveById(0L);
+        shardTemplate.fanOut(shard -> {
+            attendanceLogRepository.existsByUserIdAndAttendDate(0L, today);
+            return pointLedgerRepository.sumAmountByUserId(0L);
+        });
+
+        try {
+            redis.execute((RedisCallback<String>) RedisConnection::ping);
+        } catch (RuntimeException e) {
+            log.warn("기동 warm-up 중 Redis 연결 실패, 서킷 브레이커 경로로 계속", e);
+        }
+
+        log.info("기동 warm-up 완료 pools={}, {}ms", pools.size(), System.currentTimeMillis() - started);
+    }
+
+    private void fill(DataSource pool) throws SQLException {
+        int target = pool instanceof HikariDataSource hikari ? Math.max(1, hikari.getMinimumIdle()) : 1;
+        List<Connection> held = new ArrayList<>(target);
+        try {
+            for (int i = 0; i < target; i++) {
+                Connection connection = pool.getConnection();
+                held.add(connection);
+                connection.isValid(1);
+            }
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+    }
+}
@@ -24,6 +24,11 @@ public class KstTimeProvider implements TimeProvider {
         return LocalDate.now(clock);
     }
 
+    @Override
+    public LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
     @Override
     public long secondsUntilMidnight() {
         ZonedDateTime now = ZonedDateTime.now(clock);
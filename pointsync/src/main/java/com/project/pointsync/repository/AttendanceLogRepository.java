@@ -1,23 +1,73 @@
 package com.project.pointsync.repository;
 
 import com.project.pointsync.domain.AttendanceLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface AttendanceLogRepository extends JpaRepository<AttendanceLog, Long> {
 
     boolean existsByUserIdAndAttendDate(Long userId, LocalDate attendDate);
 
+    // 관리자용 샤드 통계
+    long countByAttendDate(LocalDate attendDate);
+
     @Query("""
            select a.attendDate
            from AttendanceLog a
-           where a.user.id = :userId
+           where a.userId = :userId
              and a.attendDate between :from and :to
            order by a.attendDate
            """)
     List<LocalDate> findDatesByUserIdAndRange(Long userId, LocalDate from, LocalDate to);
 
+    // 사용자 정리용: 특정 사용자의 출석 id 를 keyset 으로 끊어 읽기
+    @Query("""
+           select a.id
+           from AttendanceLog a
+           where a.userId = :userId
+             and a.id > :afterId
+           order by a.id
+           """)
+    List<Long> findIdsByUserIdAfter(Long userId, Long afterId, Pageable pageable);
+
+    // ---- 정합성 점검용 (userId 구간 단위) ----
+
+    @Query("""
+           select a.userId
+           from AttendanceLog a
+           where a.attendDate = :date
+             and a.userId between :fromUserId and :toUserId
+           """)
+    List<Long> findUserIdsByDateAndUserIdRange(LocalDate date, Long fromUserId, Long toUserId);
+
+    @Query("""
+           select a.userId
+           from AttendanceLog a
+           where a.attendDate = :date
+             and a.userId in :userIds
+           """)
+    List<Long> findUserIdsByDateAndUserIdIn(LocalDate date, Collection<Long> userIds);
+
+    @Query("""
+           select a.userId as userId, count(a) as cnt
+           from AttendanceLog a
+           where a.userId between :fromUserId and :toUserId
+           group by a.userId
+           """)
+    List<UserIdCount> countByUserIdRange(Long fromUserId, Long toUserId);
+
+    // 출석 통계 backfill 용: userId 구간 내 기간 출석 (uq_user_day 인덱스 사용)
+    @Query("""
+           select a.userId as userId, a.attendDate as attendDate
+           from AttendanceLog a
+           where a.userId between :fromUserId and :toUserId
+             and a.attendDate between :from and :to
+           """)
+    List<UserAttendDate> findByUserIdRangeAndDateRange(Long fromUserId, Long toUserId, LocalDate from, LocalDate to);
+
 }
\ No newline at end of file
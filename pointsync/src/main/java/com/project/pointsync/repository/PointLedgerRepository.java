@@ -6,11 +6,36 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
+
 public interface PointLedgerRepository extends JpaRepository<PointLedger, Long> {
 
     // 누적 포인트 합계(없으면 null -> 0으로 처리)
-    @Query("select coalesce(sum(p.amount), 0) from PointLedger p where p.user.id = :userId")
+    @Query("select coalesce(sum(p.amount), 0) from PointLedger p where p.userId = :userId")
     int sumAmountByUserId(Long userId);
 
     Page<PointLedger> findByUserIdOrderByIdDesc(Long userId, Pageable pageable);
+
+    // 관리자용: 샤드별 최신 원장 (샤드 간 병합은 서비스에서)
+    List<PointLedger> findByOrderByIdDesc(Pageable pageable);
+
+    // 사용자 정리용: 특정 사용자의 원장 id 를 keyset 으로 끊어 읽기
+    @Query("""
+           select p.id
+           from PointLedger p
+           where p.userId = :userId
+             and p.id > :afterId
+           order by p.id
+           """)
+    List<Long> findIdsByUserIdAfter(Long userId, Long afterId, Pageable pageable);
+
+    // 정합성 점검용: userId 구간 내 사유별 건수
+    @Query("""
+           select p.userId as userId, count(p) as cnt
+           from PointLedger p
+           where p.reason = :reason
+             and p.userId between :fromUserId and :toUserId
+           group by p.userId
+           """)
+    List<UserIdCount> countByReasonAndUserIdRange(PointLedger.PointReason reason, Long fromUserId, Long toUserId);
 }
\ No newline at end of file
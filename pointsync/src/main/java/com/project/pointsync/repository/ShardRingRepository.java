@@ -0,0 +1,7 @@
+package com.project.pointsync.repository;
+
+import com.project.pointsync.domain.ShardRing;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ShardRingRepository extends JpaRepository<ShardRing, Long> {
+}
@@ -0,0 +1,9 @@
+package com.project.pointsync.repository;
+
+import java.time.LocalDate;
+
+/** 사용자별 출석일 projection */
+public interface UserAttendDate {
+    Long getUserId();
+    LocalDate getAttendDate();
+}
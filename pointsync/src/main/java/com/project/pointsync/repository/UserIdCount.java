@@ -0,0 +1,7 @@
+package com.project.pointsync.repository;
+
+/** 사용자별 건수 집계 projection */
+public interface UserIdCount {
+    Long getUserId();
+    long getCnt();
+}
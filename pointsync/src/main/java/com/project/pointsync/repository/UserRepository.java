@@ -1,11 +1,34 @@
 package com.project.pointsync.repository;
 
 import com.project.pointsync.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    // 삭제 요청(tombstone)되지 않은 사용자만
+    @Query("select u from User u where u.id = :id and u.deletedAt is null")
+    Optional<User> findActiveById(Long id);
+
+    // 정리 대기 중인 tombstone 사용자
+    @Query("select u.id from User u where u.deletedAt is not null order by u.deletedAt")
+    List<Long> findDeletedIds(Pageable pageable);
+
+    // tombstone 포함 (email 유니크 제약은 users 행이 정리될 때까지 유지됨)
     boolean existsByEmail(String email);
+
+    // tombstone 제외 (조회 API 용, findByEmail 과 같은 기준)
+    boolean existsByEmailAndDeletedAtIsNull(String email);
+
+    // id 기준 keyset 페이징 (대량 순회용)
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // id 만 keyset 으로 읽기 (구간 분할용)
+    @Query("select u.id from User u where u.id > :afterId order by u.id")
+    List<Long> findIdsAfter(Long afterId, Pageable pageable);
 }
\ No newline at end of file
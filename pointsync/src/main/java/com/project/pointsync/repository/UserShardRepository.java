@@ -0,0 +1,30 @@
+package com.project.pointsync.repository;
+
+import com.project.pointsync.domain.UserShard;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface UserShardRepository extends JpaRepository<UserShard, Long> {
+
+    // 주기 갱신: 워터마크 이후 바뀐 배치만
+    List<UserShard> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+
+    // 이동 중인 사용자 전체 (평소에는 거의 없음)
+    List<UserShard> findByTargetShardIdIsNotNull();
+
+    // userId 기준 keyset 페이징 (전체 재적재 / pin 정리용)
+    List<UserShard> findByUserIdGreaterThanOrderByUserIdAsc(Long userId, Pageable pageable);
+
+    // 이동 중이 아닌 배치만 삭제 (정리 도중 다시 이동이 시작된 사용자는 남긴다)
+    @Transactional
+    @Modifying
+    @Query("delete from UserShard s where s.userId in :userIds and s.targetShardId is null")
+    int deleteSettled(Collection<Long> userIds);
+}
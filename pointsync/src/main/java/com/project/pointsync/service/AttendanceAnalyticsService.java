@@ -0,0 +1,395 @@
+package com.project.pointsync.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.pointsync.dto.Analytics.AnalyticsBackfillReport;
+import com.project.pointsync.dto.Analytics.AnalyticsBackfillStatus;
+import com.project.pointsync.dto.Analytics.DailyActiveResDto;
+import com.project.pointsync.dto.Analytics.MonthlyActiveResDto;
+import com.project.pointsync.dto.Analytics.RetentionResDto;
+import com.project.pointsync.global.exception.CustomException;
+import com.project.pointsync.global.exception.ErrorCode;
+import com.project.pointsync.global.redis.HotPathRedis;
+import com.project.pointsync.global.redis.RedisCircuitBreaker;
+import com.project.pointsync.global.redis.RedisKeys;
+import com.project.pointsync.global.redis.RedisLock;
+import com.project.pointsync.global.shard.ShardResolver;
+import com.project.pointsync.global.shard.ShardTemplate;
+import com.project.pointsync.global.time.TimeProvider;
+import com.project.pointsync.repository.AttendanceLogRepository;
+import com.project.pointsync.repository.UserAttendDate;
+import com.project.pointsync.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 출석 통계 (DAU / MAU / 리텐션)
+ * - 일별: analytics:dau:{date} bitmap. userId(Snowflake)는 offset 으로 쓰기에 너무 커서
+ *   사용자마다 0부터 촘촘한 ordinal 을 발급해 offset 으로 쓴다 (analytics:user-ordinal 해시)
+ * - 월별: analytics:mau:{yyyy-MM} HyperLogLog (PFCOUNT, 오차 약 0.81%)
+ * - 리텐션: cohort 일 bitmap 과 이후 일자 bitmap 을 BITOP AND/OR 로 합쳐 BITCOUNT
+ * - 출석 시 Lua 스크립트 한 번으로 ordinal 발급 + SETBIT + PFADD. Redis 장애 시에는 기록을 건너뛰고
+ *   backfill(attendance_log 기준)로 채운다
+ * - backfill 은 백그라운드 실행: Redis 잠금을 잡은 서버 한 곳에서만 돌고 상태/마지막 결과는 Redis 에 남긴다
+ */
+@Service
+@Slf4j
+public class AttendanceAnalyticsService {
+
+    private static final String RECORD_LUA = """
+            local ord = redis.call('HGET', KEYS[1], ARGV[1])
+            if not ord then
+              ord = redis.call('INCR', KEYS[2]) - 1
+              redis.call('HSET', KEYS[1], ARGV[1], ord)
+            end
+            redis.call('SETBIT', KEYS[3], ord, 1)
+            redis.call('PFADD', KEYS[4], ARGV[1])
+            redis.call('EXPIREAT', KEYS[3], ARGV[2])
+            redis.call('EXPIREAT', KEYS[4], ARGV[3])
+            return tonumber(ord)
+            """;
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(RECORD_LUA, Long.class);
+
+    private static final List<Integer> RETENTION_GAUGE_DAYS = List.of(1, 7, 30);
+
+    private static final String BACKFILL_LOCK_KEY = RedisKeys.ANALYTICS_PREFIX + "backfill:lock";
+    private static final String BACKFILL_STATUS_KEY = RedisKeys.ANALYTICS_PREFIX + "backfill:status";
+    private static final Duration BACKFILL_STATUS_TTL = Duration.ofDays(7);
+    // 리텐션 계산용 BITOP 임시 키: 파이프라인 끝에서 지우지만, 중간에 끊겨도 남지 않게
+    private static final long TMP_KEY_TTL_SECONDS = 60;
+
+    private final StringRedisTemplate redis;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final RedisCircuitBreaker gaugeCircuitBreaker;
+    private final UserRepository userRepository;
+    private final AttendanceLogRepository attendanceLogRepository;
+    private final ShardTemplate shardTemplate;
+    private final ShardResolver shardResolver;
+    private final TimeProvider time;
+    private final RedisLock redisLock;
+    private final StringRedisTemplate hotPathRedis;
+    private final ObjectMapper objectMapper;
+
+    private final int retentionDays;
+    private final int backfillBatchSize;
+    private final Duration backfillLockTtl;
+
+    private final ExecutorService backfillExecutor = Executors.newSingleThreadExecutor();
+
+    // 게이지 값은 주기적으로 갱신해 두고 스크레이프 시에는 Redis 를 호출하지 않는다
+    private final AtomicLong dauGauge = new AtomicLong();
+    private final AtomicLong mauGauge = new AtomicLong();
+    private final Map<Integer, Double> retentionGauges = new ConcurrentHashMap<>();
+
+    public AttendanceAnalyticsService(StringRedisTemplate redis,
+                                      @Qualifier("analyticsCircuitBreaker") RedisCircuitBreaker circuitBreaker,
+                                      @Qualifier("analyticsGaugeCircuitBreaker") RedisCircuitBreaker gaugeCircuitBreaker,
+                                      UserRepository userRepository,
+                                      AttendanceLogRepository attendanceLogRepository,
+                                      ShardTemplate shardTemplate,
+                                      ShardResolver shardResolver,
+                                      TimeProvider time,
+                                      MeterRegistry meterRegistry,
+                                      RedisLock redisLock,
+                                      HotPathRedis hotPathRedis,
+                                      ObjectMapper objectMapper,
+                                      @Value("${pointsync.analytics.retention-days:400}") int retentionDays,
+                                      @Value("${pointsync.analytics.backfill-batch-size:1000}") int backfillBatchSize,
+                                      @Value("${pointsync.analytics.backfill-lock-ttl:PT5M}") Duration backfillLockTtl) {
+        this.redis = redis;
+        this.circuitBreaker = circuitBreaker;
+        this.gaugeCircuitBreaker = gaugeCircuitBreaker;
+        this.userRepository = userRepository;
+        this.attendanceLogRepository = attendanceLogRepository;
+        this.shardTemplate = shardTemplate;
+        this.shardResolver = shardResolver;
+        this.time = time;
+        this.redisLock = redisLock;
+        this.hotPathRedis = hotPathRedis.template();
+        this.objectMapper = objectMapper;
+        this.retentionDays = retentionDays;
+        this.backfillBatchSize = backfillBatchSize;
+        this.backfillLockTtl = backfillLockTtl;
+
+        Gauge.builder("pointsync.analytics.dau", dauGauge, AtomicLong::get)
+                .description("오늘 출석 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("pointsync.analytics.mau", mauGauge, AtomicLong::get)
+                .description("이번 달 출석 사용자 수 (HyperLogLog 추정)")
+                .register(meterRegistry);
+        for (int days : RETENTION_GAUGE_DAYS) {
+            Gauge.builder("pointsync.analytics.retention", retentionGauges, m -> m.getOrDefault(days, Double.NaN))
+                    .description("어제 기준 N일 전 cohort 의 당일 리텐션 비율")
+                    .tag("days", String.valueOf(days))
+                    .register(meterRegistry);
+        }
+    }
+
+    /** 출석 기록 (오늘 첫 출석이 저장된 뒤 호출). Redis 장애 시 건너뜀 */
+    public void recordCheckIn(Long userId, LocalDate date) {
+        circuitBreaker.execute(() -> hotPathRedis.execute(RECORD_SCRIPT, recordKeys(date), recordArgs(userId, date)),
+                () -> null);
+    }
+
+    /** 사용자 정리(purge) 시 ordinal 매핑 삭제. 이미 기록된 bitmap 비트는 과거 통계라 그대로 둔다 */
+    public void forgetUser(Long userId) {
+        redis.opsForHash().delete(RedisKeys.ANALYTICS_ORDINALS, String.valueOf(userId));
+    }
+
+    /** 기간 내 일별 출석 사용자 수 (BITCOUNT 파이프라인) */
+    public List<DailyActiveResDto> getDailyActive(LocalDate from, LocalDate to) {
+        List<LocalDate> dates = datesBetween(from, to);
+        List<Object> counts = redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (LocalDate date : dates) {
+                conn.bitCount(RedisKeys.dailyActive(date));
+            }
+            return null;
+        });
+        List<DailyActiveResDto> result = new ArrayList<>(dates.size());
+        for (int i = 0; i < dates.size(); i++) {
+            result.add(new DailyActiveResDto(dates.get(i), toLong(counts.get(i))));
+        }
+        return result;
+    }
+
+    /** 월 출석 사용자 수 (PFCOUNT) */
+    public MonthlyActiveResDto getMonthlyActive(YearMonth month) {
+        Long count = redis.opsForHyperLogLog().size(RedisKeys.monthlyActive(month));
+        return new MonthlyActiveResDto(month, count == null ? 0 : count);
+    }
+
+    /**
+     * cohort 일 출석자 중 days 일 뒤(당일) / days 일 안(하루라도)에 다시 출석한 사용자 수
+     * - 임시 키에 BITOP 결과를 만들고 같은 파이프라인에서 지운다 (만들자마자 TTL 도 걸어 둔다)
+     */
+    public RetentionResDto getRetention(LocalDate cohort, int days) {
+        if (days < 1 || days > retentionDays) {
+            throw new CustomException(ErrorCode.ANALYTICS_INVALID_RANGE, "days=" + days);
+        }
+        String cohortKey = RedisKeys.dailyActive(cohort);
+        String dayKey = RedisKeys.dailyActive(cohort.plusDays(days));
+        String[] windowKeys = datesBetween(cohort.plusDays(1), cohort.plusDays(days)).stream()
+                .map(RedisKeys::dailyActive)
+                .toArray(String[]::new);
+        String tmpOnDay = RedisKeys.ANALYTICS_PREFIX + "tmp:" + UUID.randomUUID();
+        String tmpWithin = RedisKeys.ANALYTICS_PREFIX + "tmp:" + UUID.randomUUID();
+
+        // 결과 순서: [0] cohort 크기, [3] 당일 유지, [7] 기간 내 유지
+        List<Object> results = redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.bitCount(cohortKey);
+            conn.bitOp(RedisStringCommands.BitOperation.AND, tmpOnDay, cohortKey, dayKey);
+            conn.expire(tmpOnDay, TMP_KEY_TTL_SECONDS);
+            conn.bitCount(tmpOnDay);
+            conn.bitOp(RedisStringCommands.BitOperation.OR, tmpWithin, windowKeys);
+            conn.expire(tmpWithin, TMP_KEY_TTL_SECONDS);
+            conn.bitOp(RedisStringCommands.BitOperation.AND, tmpWithin, tmpWithin, cohortKey);
+            conn.bitCount(tmpWithin);
+            conn.del(tmpOnDay, tmpWithin);
+            return null;
+        });
+
+        long cohortSize = toLong(results.get(0));
+        long onDay = toLong(results.get(3));
+        long within = toLong(results.get(7));
+        return new RetentionResDto(cohort, days, cohortSize, onDay, within,
+                rate(onDay, cohortSize), rate(within, cohortSize));
+    }
+
+    /** Prometheus 게이지 갱신 (Redis 장애 시 이전 값 유지) */
+    @Scheduled(fixedDelayString = "${pointsync.analytics.gauge-refresh-interval:PT1M}")
+    public void refreshGauges() {
+        gaugeCircuitBreaker.execute(() -> {
+            LocalDate today = time.today();
+            dauGauge.set(getDailyActive(today, today).get(0).activeUsers());
+            mauGauge.set(getMonthlyActive(YearMonth.from(today)).activeUsers());
+            // 오늘은 아직 진행 중이므로 어제를 기준일로 본다
+            LocalDate measured = today.minusDays(1);
+            for (int days : RETENTION_GAUGE_DAYS) {
+                retentionGauges.put(days, getRetention(measured.minusDays(days), days).onDayRate());
+            }
+            return null;
+        }, () -> null);
+    }
+
+    /**
+     * attendance_log 로 기간 내 통계 키 재구축을 백그라운드로 시작 (전체 서버에서 동시에 한 번만)
+     * - 보관 기간(retention-days)보다 오래된 날짜는 건너뛴다
+     */
+    public AnalyticsBackfillStatus startBackfill(LocalDate from, LocalDate to) {
+        LocalDate oldest = time.today().minusDays(retentionDays - 1L);
+        LocalDate start = from.isBefore(oldest) ? oldest : from;
+        datesBetween(start, to); // 기간 검증
+        String token = redisLock.tryLock(BACKFILL_LOCK_KEY, backfillLockTtl);
+        if (token == null) {
+            throw new CustomException(ErrorCode.ANALYTICS_BACKFILL_IN_PROGRESS);
+        }
+        AnalyticsBackfillStatus started;
+        try {
+            started = new AnalyticsBackfillStatus(AnalyticsBackfillStatus.State.RUNNING, start, to, time.now(),
+                    null, null, backfillStatus().lastReport());
+            saveBackfillStatus(started);
+            backfillExecutor.submit(() -> runBackfill(started, token));
+        } catch (RuntimeException e) {
+            redisLock.unlock(BACKFILL_LOCK_KEY, token);
+            throw e;
+        }
+        return started;
+    }
+
+    /** backfill 진행 상태와 마지막 결과 */
+    public AnalyticsBackfillStatus backfillStatus() {
+        String json = redis.opsForValue().get(BACKFILL_STATUS_KEY);
+        if (json == null) {
+            return new AnalyticsBackfillStatus(AnalyticsBackfillStatus.State.IDLE, null, null, null, null, null, null);
+        }
+        try {
+            return objectMapper.readValue(json, AnalyticsBackfillStatus.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("출석 통계 backfill 상태를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private void runBackfill(AnalyticsBackfillStatus started, String token) {
+        try {
+            AnalyticsBackfillReport report = backfill(started.from(), started.to(), token);
+            saveBackfillStatus(new AnalyticsBackfillStatus(AnalyticsBackfillStatus.State.DONE, started.from(),
+                    started.to(), started.startedAt(), time.now(), null, report));
+        } catch (RuntimeException e) {
+            log.warn("출석 통계 backfill 실패 from={}, to={}", started.from(), started.to(), e);
+            saveBackfillStatus(new AnalyticsBackfillStatus(AnalyticsBackfillStatus.State.FAILED, started.from(),
+                    started.to(), started.startedAt(), time.now(), e.getMessage(), started.lastReport()));
+        } finally {
+            redisLock.unlock(BACKFILL_LOCK_KEY, token);
+        }
+    }
+
+    /**
+     * attendance_log 로 기간 내 통계 키를 다시 채운다 (멱등: SETBIT / PFADD)
+     * - users 를 id keyset 으로 끊고, 구간마다 모든 샤드에서 해당 기간 출석을 읽어 파이프라인으로 기록
+     * - 행마다 스크립트 본문 대신 SHA 만 보낸다 (EVALSHA). 구간마다 SCRIPT LOAD 로 캐시에 있는 것을 보장
+     */
+    private AnalyticsBackfillReport backfill(LocalDate start, LocalDate to, String lockToken) {
+        long started = System.currentTimeMillis();
+        long users = 0;
+        long rows = 0;
+        long afterId = 0L;
+        while (true) {
+            if (!redisLock.extend(BACKFILL_LOCK_KEY, lockToken, backfillLockTtl)) {
+                throw new IllegalStateException("출석 통계 backfill 잠금을 잃었습니다.");
+            }
+            List<Long> ids = userRepository.findIdsAfter(afterId, PageRequest.of(0, backfillBatchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            long fromUserId = ids.get(0);
+            long toUserId = ids.get(ids.size() - 1);
+            List<UserAttendDate> attended = new ArrayList<>();
+            shardTemplate.fanOut(shard -> attendanceLogRepository
+                            .findByUserIdRangeAndDateRange(fromUserId, toUserId, start, to).stream()
+                            .filter(row -> shardResolver.shardOf(row.getUserId()) == shard)
+                            .toList())
+                    .forEach(attended::addAll);
+            if (!attended.isEmpty()) {
+                // 파이프라인 안에서는 NOSCRIPT 를 받아 재시도할 수 없으므로 먼저 적재 (이미 있으면 그대로)
+                redis.execute((RedisCallback<String>) connection ->
+                        ((StringRedisConnection) connection).scriptLoad(RECORD_LUA));
+                redis.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection conn = (StringRedisConnection) connection;
+                    for (UserAttendDate row : attended) {
+                        List<String> keys = recordKeys(row.getAttendDate());
+                        String[] args = recordArgs(row.getUserId(), row.getAttendDate());
+                        String[] keysAndArgs = new String[keys.size() + args.length];
+                        for (int i = 0; i < keys.size(); i++) {
+                            keysAndArgs[i] = keys.get(i);
+                        }
+                        System.arraycopy(args, 0, keysAndArgs, keys.size(), args.length);
+                        conn.evalSha(RECORD_SCRIPT.getSha1(), ReturnType.INTEGER, keys.size(), keysAndArgs);
+                    }
+                    return null;
+                });
+            }
+            users += ids.size();
+            rows += attended.size();
+            afterId = toUserId;
+        }
+        AnalyticsBackfillReport report = new AnalyticsBackfillReport(start, to, users, rows,
+                System.currentTimeMillis() - started);
+        log.info("출석 통계 backfill 완료 from={}, to={}, users={}, rows={}, {}ms",
+                start, to, users, rows, report.elapsedMs());
+        return report;
+    }
+
+    private void saveBackfillStatus(AnalyticsBackfillStatus status) {
+        try {
+            redis.opsForValue().set(BACKFILL_STATUS_KEY, objectMapper.writeValueAsString(status), BACKFILL_STATUS_TTL);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("출석 통계 backfill 상태를 저장할 수 없습니다.", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        backfillExecutor.shutdownNow();
+    }
+
+    private List<String> recordKeys(LocalDate date) {
+        return List.of(RedisKeys.ANALYTICS_ORDINALS, RedisKeys.ANALYTICS_ORDINAL_SEQ,
+                RedisKeys.dailyActive(date), RedisKeys.monthlyActive(YearMonth.from(date)));
+    }
+
+    /** [userId, 일별 키 만료 시각, 월별 키 만료 시각] (epoch seconds) */
+    private String[] recordArgs(Long userId, LocalDate date) {
+        LocalDate dailyExpiry = date.plusDays(retentionDays);
+        LocalDate monthlyExpiry = YearMonth.from(date).atEndOfMonth().plusDays(retentionDays);
+        return new String[]{
+                String.valueOf(userId),
+                String.valueOf(dailyExpiry.atStartOfDay(time.zone()).toEpochSecond()),
+                String.valueOf(monthlyExpiry.atStartOfDay(time.zone()).toEpochSecond())
+        };
+    }
+
+    private List<LocalDate> datesBetween(LocalDate from, LocalDate to) {
+        long span = ChronoUnit.DAYS.between(from, to);
+        if (span < 0 || span >= retentionDays) {
+            throw new CustomException(ErrorCode.ANALYTICS_INVALID_RANGE, from + " ~ " + to);
+        }
+        return from.datesUntil(to.plusDays(1)).toList();
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number n ? n.longValue() : 0L;
+    }
+
+    private static double rate(long part, long total) {
+        return total == 0 ? 0.0 : (double) part / total;
+    }
+}
@@ -7,6 +7,7 @@ import com.project.pointsync.dto.AttendanceLog.CheckInResult;
 import com.project.pointsync.dto.AttendanceLog.SummaryResult;
 import com.project.pointsync.global.exception.CustomException;
 import com.project.pointsync.global.exception.ErrorCode;
+import com.project.pointsync.global.shard.ShardTemplate;
 import com.project.pointsync.global.time.TimeProvider;
 import com.project.pointsync.repository.AttendanceLogRepository;
 import com.project.pointsync.repository.PointLedgerRepository;
@@ -14,9 +15,7 @@ import com.project.pointsync.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -24,68 +23,89 @@ import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 @Slf4j
 public class AttendanceLogService {
 
     private final AttendanceLogRepository attendanceLogRepository;
     private final PointLedgerRepository pointLedgerRepository;
     private final UserRepository userRepository;
-    private final StringRedisTemplate redis;
+    private final CheckInDeduplicator checkInDeduplicator;
+    private final ShardTemplate shardTemplate;
+    private final AttendanceAnalyticsService attendanceAnalytics;
     private final TimeProvider time;
 
     /**
      * KST 기준 오늘 출석 체크(멱등)
      * - 캐시 키가 있으면 DB 접근 없이 바로 성공
      * - 없으면 저장 시도(유니크 제약 흡수) 후 자정까지 TTL로 캐시 기록
+     * - Redis 장애 시에는 로컬 캐시 + DB 로 판정 (CheckInDeduplicator)
+     * - 유니크 위반 외의 이유로 저장하지 못하면(샤드 이동 중 등) 표시를 되돌려 재시도가 정상 처리되게 한다
+     * - 출석/포인트는 사용자 샤드에, 사용자 조회는 전역 DB 에서 각각 처리
      */
-    @Transactional
     public CheckInResult checkIn(Long userId) {
       LocalDate today = time.today();
-      String cacheKey = "attendance:" + userId + ":" + today;
-
-      long ttlSec = time.secondsUntilMidnight();
-      boolean first = Boolean.TRUE.equals(
-              redis.opsForValue().setIfAbsent(cacheKey,"1" ,java.time.Duration.ofSeconds(ttlSec))
-      );
-
-      User user = userRepository.findById(userId)
+      // 삭제 요청된 사용자는 여기서 걸러 정리 중인 이력에 새 행이 생기지 않게 한다 (저장 직전에 한 번 더 확인)
+      User user = userRepository.findActiveById(userId)
               .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
+      boolean first = checkInDeduplicator.markFirst(userId, today);
+
       int todayPoint = 0;
 
       if(first){
           try{
-              attendanceLogRepository.save(AttendanceLog.create(user , today));
-
-              pointLedgerRepository.save(PointLedger.create(user , 1 , PointLedger.PointReason.DAILY_CHECK_IN ));
+              // 저장은 별도 샤드 트랜잭션으로: 유니크 위반 시 이 트랜잭션만 롤백되고 아래 조회는 정상 진행
+              shardTemplate.write(userId, () -> {
+                  // 위 조회 뒤에 삭제 요청이 커밋됐으면 저장하지 않는다. 잠금 없는 확인이라 경계의 요청은 통과할 수 있고,
+                  // 그렇게 남은 행은 정리 작업이 final-grace 뒤에 다시 지운다 (UserPurgeService)
+                  if (userRepository.findActiveById(userId).isEmpty()) {
+                      throw new CustomException(ErrorCode.USER_NOT_FOUND);
+                  }
+                  // id 를 메모리에서 할당하므로 INSERT 가 커밋 시점으로 미뤄진다. 유니크 위반을 여기서 잡기 위해 즉시 flush
+                  attendanceLogRepository.saveAndFlush(AttendanceLog.create(user , today));
+
+                  pointLedgerRepository.save(PointLedger.create(user , 1 , PointLedger.PointReason.DAILY_CHECK_IN ));
+                  return null;
+              });
               todayPoint = 1;
           }catch (DataIntegrityViolationException ignore){
               log.info("이미 같은 날짜의 출석 로그가 존재 (race condition) userId={}, date={}", userId, today);
+          }catch (RuntimeException e){
+              checkInDeduplicator.release(userId, today);
+              throw e;
+          }
+          if (todayPoint > 0) {
+              attendanceAnalytics.recordCheckIn(userId, today);
           }
 
       }
-        int totalPoints = pointLedgerRepository.sumAmountByUserId(userId);
-        int currentStreak = calculateCurrentStreak(userId, today);
-        int longestStreak = calculateLongestStreak(userId);
+        int point = todayPoint;
+        return shardTemplate.read(userId, () -> {
+            int totalPoints = pointLedgerRepository.sumAmountByUserId(userId);
+            int currentStreak = calculateCurrentStreak(userId, today);
+            int longestStreak = calculateLongestStreak(userId);
 
-        return new CheckInResult(true, today, todayPoint, totalPoints, currentStreak, longestStreak);
+            return new CheckInResult(true, today, point, totalPoints, currentStreak, longestStreak);
+        });
 
     }
 
     /** 기간 내 출석일 목록(캘린더 표시용) */
     public List<LocalDate> getCalendar(Long userId, LocalDate from, LocalDate to) {
-        return attendanceLogRepository.findDatesByUserIdAndRange(userId, from, to);
+        return shardTemplate.read(userId,
+                () -> attendanceLogRepository.findDatesByUserIdAndRange(userId, from, to));
     }
 
     /** 오늘 출석 여부/누적 포인트/연속일수 요약 */
     public SummaryResult getSummary(Long userId) {
         LocalDate today = time.today();
-        boolean attendedToday = attendanceLogRepository.existsByUserIdAndAttendDate(userId, today);
-        int totalPoints = pointLedgerRepository.sumAmountByUserId(userId);
-        int currentStreak = calculateCurrentStreak(userId, today);
-        int longestStreak = calculateLongestStreak(userId);
-        return new SummaryResult(attendedToday, totalPoints, currentStreak, longestStreak);
+        return shardTemplate.read(userId, () -> {
+            boolean attendedToday = attendanceLogRepository.existsByUserIdAndAttendDate(userId, today);
+            int totalPoints = pointLedgerRepository.sumAmountByUserId(userId);
+            int currentStreak = calculateCurrentStreak(userId, today);
+            int longestStreak = calculateLongestStreak(userId);
+            return new SummaryResult(attendedToday, totalPoints, currentStreak, longestStreak);
+        });
     }
 
     /** 오늘 포함 연속 출석 */
@@ -0,0 +1,154 @@
+package com.project.pointsync.service;
+
+import com.project.pointsync.global.redis.HotPathRedis;
+import com.project.pointsync.global.redis.RedisCircuitBreaker;
+import com.project.pointsync.global.redis.RedisKeys;
+import com.project.pointsync.global.shard.ShardTemplate;
+import com.project.pointsync.global.time.TimeProvider;
+import com.project.pointsync.repository.AttendanceLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 오늘 출석 중복 판정
+ * - 평소: Redis SET NX (attendance:{userId}:{date}, 자정까지 TTL), 응답 경로용 짧은 타임아웃 연결 사용
+ * - Redis 서킷이 열리면: 크기 제한 로컬 캐시 + DB 조회/uq_user_day 제약으로 판정 (타임아웃을 기다리지 않음)
+ * - 서킷이 닫히면 로컬 캐시에 쌓인 오늘자 키를 Redis 로 재동기화
+ */
+@Component
+@Slf4j
+public class CheckInDeduplicator {
+
+    private final StringRedisTemplate redis;
+    private final StringRedisTemplate hotPathRedis;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final AttendanceLogRepository attendanceLogRepository;
+    private final ShardTemplate shardTemplate;
+    private final TimeProvider time;
+
+    // key -> 출석일, 접근 순서 기준 LRU
+    private final Map<String, LocalDate> localKeys;
+
+    private final Counter fallbackFirst;
+    private final Counter fallbackDuplicate;
+
+    public CheckInDeduplicator(StringRedisTemplate redis,
+                               HotPathRedis hotPathRedis,
+                               @Qualifier("checkInCircuitBreaker") RedisCircuitBreaker circuitBreaker,
+                               AttendanceLogRepository attendanceLogRepository,
+                               ShardTemplate shardTemplate,
+                               TimeProvider time,
+                               MeterRegistry meterRegistry,
+                               @Value("${pointsync.attendance.local-dedupe-max-size:100000}") int maxSize) {
+        this.redis = redis;
+        this.hotPathRedis = hotPathRedis.template();
+        this.circuitBreaker = circuitBreaker;
+        this.attendanceLogRepository = attendanceLogRepository;
+        this.shardTemplate = shardTemplate;
+        this.time = time;
+        this.localKeys = Collections.synchronizedMap(new LinkedHashMap<String, LocalDate>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalDate> eldest) {
+                return size() > maxSize;
+            }
+        });
+
+        this.fallbackFirst = Counter.builder("pointsync.attendance.dedupe.fallback")
+                .description("Redis 서킷 OPEN 중 로컬 캐시로 처리한 출석 판정")
+                .tag("result", "first")
+                .register(meterRegistry);
+        this.fallbackDuplicate = Counter.builder("pointsync.attendance.dedupe.fallback")
+                .description("Redis 서킷 OPEN 중 로컬 캐시로 처리한 출석 판정")
+                .tag("result", "duplicate")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("pointsync.attendance.dedupe.local.size", Tags.empty(), localKeys);
+
+        circuitBreaker.addListener(state -> {
+            if (state == RedisCircuitBreaker.State.CLOSED) {
+                CompletableFuture.runAsync(this::resync);
+            }
+        });
+    }
+
+    /** 오늘 첫 출석 시도면 true */
+    public boolean markFirst(Long userId, LocalDate today) {
+        String key = RedisKeys.attendance(userId, today);
+        return circuitBreaker.execute(
+                () -> Boolean.TRUE.equals(hotPathRedis.opsForValue()
+                        .setIfAbsent(key, "1", Duration.ofSeconds(time.secondsUntilMidnight()))),
+                () -> markFirstLocally(key, userId, today)
+        );
+    }
+
+    /** 저장하지 못한 출석의 표시를 되돌린다 (다음 시도가 다시 첫 출석으로 처리되게) */
+    public void release(Long userId, LocalDate today) {
+        String key = RedisKeys.attendance(userId, today);
+        localKeys.remove(key);
+        circuitBreaker.execute(() -> hotPathRedis.delete(key), () -> {
+            log.warn("출석 표시 해제 실패 userId={}, date={} (자정까지 재시도가 0포인트로 처리됨, 정합성 점검으로 복구)",
+                    userId, today);
+            return false;
+        });
+    }
+
+    private boolean markFirstLocally(String key, Long userId, LocalDate today) {
+        if (localKeys.putIfAbsent(key, today) != null) {
+            fallbackDuplicate.increment();
+            return false;
+        }
+        // 다른 서버(또는 장애 전)에서 이미 출석했을 수 있으므로 DB 로 한 번 확인, 남는 경합은 uq_user_day 가 막는다
+        if (shardTemplate.read(userId, () -> attendanceLogRepository.existsByUserIdAndAttendDate(userId, today))) {
+            fallbackDuplicate.increment();
+            return false;
+        }
+        fallbackFirst.increment();
+        return true;
+    }
+
+    /** 장애 중 로컬에서 판정한 오늘자 키를 Redis 로 옮기고 비운다 */
+    void resync() {
+        LocalDate today = time.today();
+        List<String> keys;
+        synchronized (localKeys) {
+            keys = localKeys.entrySet().stream()
+                    .filter(e -> today.equals(e.getValue()))
+                    .map(Map.Entry::getKey)
+                    .toList();
+            localKeys.clear();
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+        long ttl = time.secondsUntilMidnight();
+        try {
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                for (String key : keys) {
+                    conn.set(key, "1", Expiration.seconds(ttl), RedisStringCommands.SetOption.ifAbsent());
+                }
+                return null;
+            });
+            log.info("Redis 복구 후 로컬 출석 키 재동기화 완료 count={}", keys.size());
+        } catch (RuntimeException e) {
+            log.warn("로컬 출석 키 재동기화 실패 count={} (정합성 점검으로 복구 가능)", keys.size(), e);
+        }
+    }
+}
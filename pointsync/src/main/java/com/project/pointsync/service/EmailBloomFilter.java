@@ -0,0 +1,283 @@
+package com.project.pointsync.service;
+
+import com.project.pointsync.domain.User;
+import com.project.pointsync.global.bloom.RedisBloomFilter;
+import com.project.pointsync.global.id.Snowflake;
+import com.project.pointsync.global.redis.RedisCircuitBreaker;
+import com.project.pointsync.global.redis.RedisLock;
+import com.project.pointsync.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 가입된 이메일 Bloom filter
+ * - "확실히 미가입"이면 DB 조회 없이 바로 응답하기 위한 용도 (가입 여부 확정은 항상 DB/유니크 제약)
+ * - 기동 시 users 테이블 전체로 재구축하며, 재구축 전이거나 Redis 장애(서킷 OPEN) 시에는 DB 로 그대로 흘려보낸다
+ * - 등록(put)이 실패하거나 서킷에 막히면 그 이메일은 필터에 없으므로 "확실히 미가입" 응답을 더는 믿을 수 없다
+ *   : 이 서버는 즉시 fail-open, Redis 가 다시 응답하면 공유 dirty 표시 후 재구축 (다른 서버도 그때부터 fail-open)
+ * - 재구축은 전용 스레드 하나에서, 서버 간 RedisLock 을 잡고 배치마다 연장하며 진행 (잠금을 잃으면 중단)
+ */
+@Component
+@Slf4j
+public class EmailBloomFilter {
+
+    private static final String PREFIX = "bloom:user-email";
+    private static final String REBUILD_LOCK_KEY = PREFIX + ":rebuild-lock";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(1);
+
+    private final RedisBloomFilter filter;
+    private final UserRepository userRepository;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final RedisLock redisLock;
+    private final int rebuildBatchSize;
+    private final Duration catchUpMargin;
+
+    // Redis 에 dirty 를 아직 남기지 못한 등록 실패가 있음
+    private final AtomicBoolean pendingDirty = new AtomicBoolean(false);
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor();
+    // 재구축이 이미 대기/진행 중이면 더 걸지 않는다
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean(false);
+
+    private final Counter negatives;
+    private final Counter positives;
+    private final Counter falsePositives;
+
+    public EmailBloomFilter(StringRedisTemplate redis,
+                            @Qualifier("emailBloomCircuitBreaker") RedisCircuitBreaker circuitBreaker,
+                            RedisLock redisLock,
+                            UserRepository userRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${pointsync.bloom.user-email.initial-capacity:1000000}") long initialCapacity,
+                            @Value("${pointsync.bloom.user-email.fpp:0.01}") double fpp,
+                            @Value("${pointsync.bloom.user-email.rebuild-batch-size:1000}") int rebuildBatchSize,
+                            @Value("${pointsync.bloom.user-email.catch-up-margin:PT1M}") Duration catchUpMargin) {
+        this.filter = new RedisBloomFilter(redis, PREFIX, initialCapacity, fpp);
+        this.userRepository = userRepository;
+        this.circuitBreaker = circuitBreaker;
+        this.redisLock = redisLock;
+        this.rebuildBatchSize = rebuildBatchSize;
+        this.catchUpMargin = catchUpMargin;
+
+        this.negatives = lookupCounter(meterRegistry, "negative");
+        this.positives = lookupCounter(meterRegistry, "positive");
+        this.falsePositives = lookupCounter(meterRegistry, "false_positive");
+        Gauge.builder("pointsync.user.email.bloom.fpp", filter, RedisBloomFilter::estimatedFalsePositiveRate)
+                .description("가입 이메일 Bloom filter 추정 오탐률")
+                .register(meterRegistry);
+        Gauge.builder("pointsync.user.email.bloom.size", filter, RedisBloomFilter::approximateSize)
+                .description("가입 이메일 Bloom filter 등록 건수(근사)")
+                .register(meterRegistry);
+    }
+
+    /** false 면 확실히 미가입. Redis 오류 시나 등록 누락이 있을 때는 true(DB 확인 필요) */
+    public boolean mightContain(String email) {
+        boolean result = circuitBreaker.execute(() -> {
+            flushPendingDirty();
+            return filter.mightContain(normalize(email));
+        }, () -> true);
+        (result ? positives : negatives).increment();
+        return result;
+    }
+
+    /**
+     * 가입 전 등록 (가입이 실패해도 오탐 1건이 늘 뿐 정합성 문제는 없음)
+     * - 등록하지 못하면 가입은 그대로 진행하고 필터를 dirty 로 돌린다 (미탐 대신 fail-open)
+     */
+    public void put(String email) {
+        circuitBreaker.execute(() -> {
+            flushPendingDirty();
+            filter.put(normalize(email));
+            return null;
+        }, () -> {
+            if (pendingDirty.compareAndSet(false, true)) {
+                log.warn("이메일 Bloom filter 등록 실패, 재구축 전까지 필터 미사용");
+            }
+            return null;
+        });
+    }
+
+    /** 필터는 있다고 했지만 DB 에 없었던 경우 */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    /** 기동 완료 후 백그라운드로 재구축 (여러 서버가 동시에 떠도 한 대만 수행) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuildAsync();
+    }
+
+    /** dirty 표시가 남아 있으면 재구축 (재구축 중에 새로 생긴 누락은 다음 주기에 처리) */
+    @Scheduled(fixedDelayString = "${pointsync.bloom.user-email.dirty-check-interval:PT1M}")
+    public void rebuildIfDirty() {
+        boolean dirty = circuitBreaker.execute(() -> {
+            flushPendingDirty();
+            return filter.isDirty();
+        }, () -> false);
+        if (dirty) {
+            rebuildAsync();
+        }
+    }
+
+    private void rebuildAsync() {
+        if (!rebuildQueued.compareAndSet(false, true)) {
+            return;
+        }
+        rebuildExecutor.execute(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.warn("이메일 Bloom filter 재구축 실패, 기존 필터(또는 DB)로 계속 동작", e);
+            } finally {
+                rebuildQueued.set(false);
+            }
+        });
+    }
+
+    public void rebuild() {
+        String token = redisLock.tryLock(REBUILD_LOCK_KEY, REBUILD_LOCK_TTL);
+        if (token == null) {
+            log.info("다른 서버가 이메일 Bloom filter 재구축 중, 건너뜀");
+            return;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            // 재구축 표시 전에 put 하고 스캔이 지나간 뒤 커밋된 가입을 잡기 위해, 시작 직전 발급분부터 한 번 더 읽는다
+            long catchUpAfterId = Snowflake.minIdAt(started - catchUpMargin.toMillis()) - 1;
+            Runnable keepLock = () -> {
+                if (!redisLock.extend(REBUILD_LOCK_KEY, token, REBUILD_LOCK_TTL)) {
+                    throw new IllegalStateException("이메일 Bloom filter 재구축 잠금을 잃었습니다.");
+                }
+            };
+            long total = filter.rebuild(() -> withLock(emailBatchesWithCatchUp(catchUpAfterId), keepLock),
+                    Duration.ofMinutes(5).toSeconds());
+            log.info("이메일 Bloom filter 재구축 완료 count={}, {}ms", total, System.currentTimeMillis() - started);
+        } finally {
+            redisLock.unlock(REBUILD_LOCK_KEY, token);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /** Redis 에 남기지 못한 등록 실패를 dirty 로 옮기고 재구축을 건다 (Redis 호출 안에서만 부른다) */
+    private void flushPendingDirty() {
+        if (!pendingDirty.compareAndSet(true, false)) {
+            return;
+        }
+        try {
+            filter.markDirty();
+        } catch (RuntimeException e) {
+            pendingDirty.set(true);
+            throw e;
+        }
+        log.info("이메일 Bloom filter dirty 표시, 재구축 요청");
+        rebuildAsync();
+    }
+
+    /** 배치를 하나 넘길 때마다 잠금을 연장한다 (잃었으면 예외로 재구축 중단) */
+    private static Iterator<List<String>> withLock(Iterator<List<String>> batches, Runnable keepLock) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return batches.hasNext();
+            }
+
+            @Override
+            public List<String> next() {
+                keepLock.run();
+                return batches.next();
+            }
+        };
+    }
+
+    /** 전체 스캔 후 catchUpAfterId 이후 구간을 다시 읽는다 (뒤 구간은 앞이 끝난 뒤에 조회) */
+    private Iterator<List<String>> emailBatchesWithCatchUp(long catchUpAfterId) {
+        Iterator<List<String>> full = emailBatches(0L);
+        return new Iterator<>() {
+            private Iterator<List<String>> catchUp;
+
+            @Override
+            public boolean hasNext() {
+                if (catchUp == null) {
+                    if (full.hasNext()) {
+                        return true;
+                    }
+                    catchUp = emailBatches(catchUpAfterId);
+                }
+                return catchUp.hasNext();
+            }
+
+            @Override
+            public List<String> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return catchUp == null ? full.next() : catchUp.next();
+            }
+        };
+    }
+
+    /** users 를 id 기준 keyset 으로 끊어 읽는다 (전체를 메모리에 올리지 않음) */
+    private Iterator<List<String>> emailBatches(long afterId) {
+        return new Iterator<>() {
+            private long lastId = afterId;
+            private List<User> next = fetch();
+
+            private List<User> fetch() {
+                return userRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, rebuildBatchSize));
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !next.isEmpty();
+            }
+
+            @Override
+            public List<String> next() {
+                if (next.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                List<User> current = next;
+                lastId = current.get(current.size() - 1).getId();
+                next = current.size() < rebuildBatchSize ? List.of() : fetch();
+                return current.stream().map(u -> normalize(u.getEmail())).toList();
+            }
+        };
+    }
+
+    // MySQL 기본 collation 은 대소문자를 구분하지 않으므로 필터도 소문자로 통일
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter lookupCounter(MeterRegistry registry, String result) {
+        return Counter.builder("pointsync.user.email.bloom.lookups")
+                .description("가입 이메일 Bloom filter 조회 결과")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -8,42 +8,43 @@ import com.project.pointsync.dto.PointLedger.PointLedgerResDto;
 import com.project.pointsync.dto.PointLedger.PointTotalResDto;
 import com.project.pointsync.global.exception.CustomException;
 import com.project.pointsync.global.exception.ErrorCode;
+import com.project.pointsync.global.shard.ShardTemplate;
 import com.project.pointsync.repository.PointLedgerRepository;
 import com.project.pointsync.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class PointLedgerService {
 
     private final PointLedgerRepository pointLedgerRepository;
     private final UserRepository userRepository;
+    private final ShardTemplate shardTemplate;
 
-    /** 포인트 원장 기록 추가 :  양수=적립, 음수=차감 */
-    @Transactional
+    /** 포인트 원장 기록 추가 :  양수=적립, 음수=차감 (사용자 샤드에 기록) */
     public PointLedgerResDto create(PointLedgerReqDto req) {
         if (req.amount() == 0) {
             throw new IllegalArgumentException("amount는 0일 수 없습니다.");
         }
-        User user = userRepository.findById(req.userId())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        PointLedger saved = pointLedgerRepository.save(
-                PointLedger.create(user, req.amount(), req.reason())
-        );
-        return PointLedgerResDto.from(saved);
+        // 사용자 확인도 샤드 트랜잭션 안에서: 삭제 요청 커밋 이후에는 새 원장 행이 커밋되지 않게 (UserPurgeService)
+        return shardTemplate.write(req.userId(), () -> {
+            User user = userRepository.findActiveById(req.userId())
+                    .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+            PointLedger saved = pointLedgerRepository.save(
+                    PointLedger.create(user, req.amount(), req.reason())
+            );
+            return PointLedgerResDto.from(saved);
+        });
     }
 
     /** 사용자별 포인트 총합 조회 */
     public PointTotalResDto getTotal(Long userId) {
-        int total = pointLedgerRepository.sumAmountByUserId(userId);
+        int total = shardTemplate.read(userId, () -> pointLedgerRepository.sumAmountByUserId(userId));
         return new PointTotalResDto(userId, total);
     }
 
@@ -53,20 +54,22 @@ public class PointLedgerService {
     public PointLedgerListResDto getHistory(Long userId, int page, int size) {
         PageRequest pageable = PageRequest.of(page, size);
 
-        Page<PointLedger> resultPage = pointLedgerRepository.findByUserIdOrderByIdDesc(userId, pageable);
+        return shardTemplate.read(userId, () -> {
+            Page<PointLedger> resultPage = pointLedgerRepository.findByUserIdOrderByIdDesc(userId, pageable);
 
-        var items = resultPage.getContent().stream()
-                .map(PointLedgerResDto::from)
-                .collect(Collectors.toList());
+            var items = resultPage.getContent().stream()
+                    .map(PointLedgerResDto::from)
+                    .collect(Collectors.toList());
 
-        return new PointLedgerListResDto(
-                userId,
-                page,
-                size,
-                resultPage.getTotalElements(),
-                resultPage.getTotalPages(),
-                items
-        );
+            return new PointLedgerListResDto(
+                    userId,
+                    page,
+                    size,
+                    resultPage.getTotalElements(),
+                    resultPage.getTotalPages(),
+                    items
+            );
+        });
     }
 
 }
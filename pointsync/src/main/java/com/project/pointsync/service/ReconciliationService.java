@@ -0,0 +1,428 @@
+package com.project.pointsync.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.pointsync.domain.PointLedger;
+import com.project.pointsync.dto.Reconciliation.ReconciliationReport;
+import com.project.pointsync.dto.Reconciliation.ReconciliationStatus;
+import com.project.pointsync.global.concurrent.SimpleRateLimiter;
+import com.project.pointsync.global.exception.CustomException;
+import com.project.pointsync.global.exception.ErrorCode;
+import com.project.pointsync.global.redis.RedisKeys;
+import com.project.pointsync.global.redis.RedisLock;
+import com.project.pointsync.global.shard.ShardResolver;
+import com.project.pointsync.global.shard.ShardTemplate;
+import com.project.pointsync.global.time.TimeProvider;
+import com.project.pointsync.repository.AttendanceLogRepository;
+import com.project.pointsync.repository.PointLedgerRepository;
+import com.project.pointsync.repository.UserIdCount;
+import com.project.pointsync.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * DB(원장) 기준으로 Redis 파생 캐시와 출석/포인트 원장 간 정합성을 점검한다
+ * - userId 를 keyset 으로 구간(range) 분할해 고정 크기 스레드풀에서 병렬 처리 (테이블 전체를 힙에 올리지 않음)
+ * - Redis 쪽 고아 키는 KEYS 대신 SCAN 으로 훑고, 존재 여부는 파이프라인으로 한 번에 확인
+ *   출석은 키를 먼저 잡고 DB 에 쓰므로, DB 에 없는 키는 orphan-grace 뒤 다시 조회해 그때도 없을 때만 고아로 본다
+ * - 출석/원장은 구간마다 모든 샤드에 병렬로 조회하고, 각 사용자가 현재 속한 샤드의 행만 센다 (이동 중 복사본 제외)
+ * - repair=true 면 캐시 불일치만 rate limit 을 걸어 복구하고, 포인트 원장 불일치는 보고만 한다
+ * - 백그라운드로 실행: 여러 서버 중 Redis 잠금을 잡은 한 곳에서만 돌고, 진행 상태/마지막 결과는 Redis 에 남겨 어느 서버에서든 조회
+ */
+@Service
+@Slf4j
+public class ReconciliationService {
+
+    private static final int MAX_SAMPLES = 100;
+    private static final String LOCK_KEY = "reconciliation:lock";
+    private static final String STATUS_KEY = "reconciliation:status";
+    private static final Duration STATUS_TTL = Duration.ofDays(7);
+
+    private final UserRepository userRepository;
+    private final AttendanceLogRepository attendanceLogRepository;
+    private final PointLedgerRepository pointLedgerRepository;
+    private final ShardTemplate shardTemplate;
+    private final ShardResolver shardResolver;
+    private final StringRedisTemplate redis;
+    private final TimeProvider time;
+    private final MeterRegistry meterRegistry;
+    private final RedisLock redisLock;
+    private final ObjectMapper objectMapper;
+
+    private final int rangeSize;
+    private final int parallelism;
+    private final double repairPerSecond;
+    private final Duration lockTtl;
+    private final Duration orphanGrace;
+
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor();
+
+    public ReconciliationService(UserRepository userRepository,
+                                 AttendanceLogRepository attendanceLogRepository,
+                                 PointLedgerRepository pointLedgerRepository,
+                                 ShardTemplate shardTemplate,
+                                 ShardResolver shardResolver,
+                                 StringRedisTemplate redis,
+                                 TimeProvider time,
+                                 MeterRegistry meterRegistry,
+                                 RedisLock redisLock,
+                                 ObjectMapper objectMapper,
+                                 @Value("${pointsync.reconciliation.range-size:5000}") int rangeSize,
+                                 @Value("${pointsync.reconciliation.parallelism:8}") int parallelism,
+                                 @Value("${pointsync.reconciliation.repair-per-second:200}") double repairPerSecond,
+                                 @Value("${pointsync.reconciliation.lock-ttl:PT5M}") Duration lockTtl,
+                                 @Value("${pointsync.reconciliation.orphan-grace:PT10S}") Duration orphanGrace) {
+        this.userRepository = userRepository;
+        this.attendanceLogRepository = attendanceLogRepository;
+        this.pointLedgerRepository = pointLedgerRepository;
+        this.shardTemplate = shardTemplate;
+        this.shardResolver = shardResolver;
+        this.redis = redis;
+        this.time = time;
+        this.meterRegistry = meterRegistry;
+        this.redisLock = redisLock;
+        this.objectMapper = objectMapper;
+        this.rangeSize = rangeSize;
+        this.parallelism = parallelism;
+        this.repairPerSecond = repairPerSecond;
+        this.lockTtl = lockTtl;
+        this.orphanGrace = orphanGrace;
+    }
+
+    /** 전체 점검을 백그라운드로 시작 (전체 서버에서 동시에 한 번만) */
+    public ReconciliationStatus start(boolean repair) {
+        String token = redisLock.tryLock(LOCK_KEY, lockTtl);
+        if (token == null) {
+            throw new CustomException(ErrorCode.RECONCILIATION_IN_PROGRESS);
+        }
+        ReconciliationStatus started;
+        try {
+            started = new ReconciliationStatus(ReconciliationStatus.State.RUNNING, repair, time.now(), null, null,
+                    status().lastReport());
+            saveStatus(started);
+            jobExecutor.submit(() -> runLocked(started, token));
+        } catch (RuntimeException e) {
+            redisLock.unlock(LOCK_KEY, token);
+            throw e;
+        }
+        return started;
+    }
+
+    /** 진행 상태와 마지막 결과 */
+    public ReconciliationStatus status() {
+        String json = redis.opsForValue().get(STATUS_KEY);
+        if (json == null) {
+            return new ReconciliationStatus(ReconciliationStatus.State.IDLE, false, null, null, null, null);
+        }
+        try {
+            return objectMapper.readValue(json, ReconciliationStatus.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("정합성 점검 상태를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private void runLocked(ReconciliationStatus started, String token) {
+        try {
+            ReconciliationReport report = doRun(started.repair(), token);
+            saveStatus(new ReconciliationStatus(ReconciliationStatus.State.DONE, started.repair(),
+                    started.startedAt(), time.now(), null, report));
+        } catch (RuntimeException e) {
+            log.warn("정합성 점검 실패 repair={}", started.repair(), e);
+            saveStatus(new ReconciliationStatus(ReconciliationStatus.State.FAILED, started.repair(),
+                    started.startedAt(), time.now(), e.getMessage(), started.lastReport()));
+        } finally {
+            redisLock.unlock(LOCK_KEY, token);
+        }
+    }
+
+    private void saveStatus(ReconciliationStatus status) {
+        try {
+            redis.opsForValue().set(STATUS_KEY, objectMapper.writeValueAsString(status), STATUS_TTL);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("정합성 점검 상태를 저장할 수 없습니다.", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    private ReconciliationReport doRun(boolean repair, String lockToken) {
+        long started = System.currentTimeMillis();
+        Job job = new Job(time.today(), repair, new SimpleRateLimiter(repairPerSecond), lockToken);
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        // 제출 대기 구간 수를 제한해 id 순회가 처리 속도보다 앞서 나가지 않게 한다
+        Semaphore inFlight = new Semaphore(parallelism * 2);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            futures.add(executor.submit(() -> scanOrphanKeys(job)));
+
+            long afterId = 0L;
+            while (true) {
+                job.keepLock();
+                List<Long> ids = userRepository.findIdsAfter(afterId, PageRequest.of(0, rangeSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                long from = ids.get(0);
+                long to = ids.get(ids.size() - 1);
+                int count = ids.size();
+                inFlight.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        checkRange(job, from, to, count);
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+                afterId = to;
+                drainCompleted(futures);
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("정합성 점검이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("정합성 점검 실패: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ReconciliationReport report = job.toReport(System.currentTimeMillis() - started);
+        log.info("정합성 점검 완료 date={}, repair={}, users={}, cacheMissing={}, cacheOrphan={}, ledgerMismatch={}, repaired={}, {}ms",
+                report.date(), repair, report.usersScanned(), report.cacheMissing(), report.cacheOrphan(),
+                report.ledgerMismatch(), report.repaired(), report.elapsedMs());
+        return report;
+    }
+
+    /** userId 구간 [from, to] 점검: 오늘 출석 캐시 누락 + 출석/원장 건수 비교 */
+    private void checkRange(Job job, long from, long to, int userCount) {
+        List<Long> attendedToday = fromOwningShards(
+                () -> attendanceLogRepository.findUserIdsByDateAndUserIdRange(job.date, from, to), userId -> userId);
+        if (!attendedToday.isEmpty()) {
+            List<Object> exists = redis.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                for (Long userId : attendedToday) {
+                    conn.exists(RedisKeys.attendance(userId, job.date));
+                }
+                return null;
+            });
+            for (int i = 0; i < attendedToday.size(); i++) {
+                if (!Boolean.TRUE.equals(exists.get(i))) {
+                    Long userId = attendedToday.get(i);
+                    job.mismatch("cache_missing", job.cacheMissing, "cache_missing userId=" + userId);
+                    if (job.repair) {
+                        job.limiter.acquire();
+                        redis.opsForValue().setIfAbsent(RedisKeys.attendance(userId, job.date), "1",
+                                Duration.ofSeconds(time.secondsUntilMidnight()));
+                        job.repaired("cache_missing");
+                    }
+                }
+            }
+        }
+
+        Map<Long, Long> attendanceCounts = toMap(fromOwningShards(
+                () -> attendanceLogRepository.countByUserIdRange(from, to), UserIdCount::getUserId));
+        Map<Long, Long> ledgerCounts = toMap(fromOwningShards(
+                () -> pointLedgerRepository.countByReasonAndUserIdRange(PointLedger.PointReason.DAILY_CHECK_IN, from, to),
+                UserIdCount::getUserId));
+        Set<Long> userIds = new HashSet<>(attendanceCounts.keySet());
+        userIds.addAll(ledgerCounts.keySet());
+        for (Long userId : userIds) {
+            long attended = attendanceCounts.getOrDefault(userId, 0L);
+            long credited = ledgerCounts.getOrDefault(userId, 0L);
+            if (attended != credited) {
+                job.mismatch("ledger_mismatch", job.ledgerMismatch,
+                        "ledger_mismatch userId=" + userId + " attendance=" + attended + " dailyCheckIn=" + credited);
+            }
+        }
+
+        job.usersScanned.addAndGet(userCount);
+        job.rangesScanned.incrementAndGet();
+    }
+
+    /** 오늘자 Redis 출석 키를 SCAN 으로 훑어 DB 에 출석이 없는 키를 찾는다 */
+    private void scanOrphanKeys(Job job) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(RedisKeys.ATTENDANCE_PREFIX + "*:" + job.date)
+                .count(1000)
+                .build();
+        List<String> batch = new ArrayList<>(rangeSize);
+        try (Cursor<String> cursor = redis.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= rangeSize) {
+                    checkOrphans(job, batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            checkOrphans(job, batch);
+        }
+    }
+
+    private void checkOrphans(Job job, List<String> keys) {
+        Map<Long, String> keyByUserId = new HashMap<>();
+        for (String key : keys) {
+            Long userId = RedisKeys.attendanceUserId(key);
+            if (userId != null) {
+                keyByUserId.put(userId, key);
+            }
+        }
+        job.redisKeysScanned.addAndGet(keys.size());
+        if (keyByUserId.isEmpty()) {
+            return;
+        }
+
+        Set<Long> candidates = new HashSet<>(keyByUserId.keySet());
+        candidates.removeAll(attendedToday(job, candidates));
+        if (candidates.isEmpty()) {
+            return;
+        }
+        // 키를 잡은 뒤 DB 저장 전인 출석일 수 있다: 저장이 끝날 시간을 주고 다시 확인
+        awaitOrphanGrace(job);
+        candidates.removeAll(attendedToday(job, candidates));
+        for (Long userId : candidates) {
+            job.mismatch("cache_orphan", job.cacheOrphan, "cache_orphan userId=" + userId);
+            if (job.repair) {
+                // 키만 남고 DB 저장이 실패한 경우: 키를 지워야 오늘 다시 출석할 수 있다
+                job.limiter.acquire();
+                redis.delete(keyByUserId.get(userId));
+                job.repaired("cache_orphan");
+            }
+        }
+    }
+
+    /** userIds 중 오늘 출석이 DB 에 있는 사용자 (현재 속한 샤드 기준) */
+    private Set<Long> attendedToday(Job job, Set<Long> userIds) {
+        Map<Integer, List<Long>> userIdsByShard = userIds.stream()
+                .collect(Collectors.groupingBy(shardResolver::shardOf));
+        Set<Long> attended = new HashSet<>();
+        userIdsByShard.forEach((shard, ids) -> attended.addAll(shardTemplate.onShard(shard, true,
+                () -> attendanceLogRepository.findUserIdsByDateAndUserIdIn(job.date, ids))));
+        return attended;
+    }
+
+    private void awaitOrphanGrace(Job job) {
+        job.keepLock();
+        try {
+            Thread.sleep(orphanGrace.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("정합성 점검이 중단되었습니다.", e);
+        }
+    }
+
+    /** 모든 샤드에서 같은 조회를 실행하고, 사용자가 현재 속한 샤드에서 나온 행만 모은다 */
+    private <T> List<T> fromOwningShards(Supplier<List<T>> query, Function<T, Long> userIdOf) {
+        List<T> merged = new ArrayList<>();
+        for (List<T> rows : shardTemplate.fanOut(shard -> query.get().stream()
+                .filter(row -> shardResolver.shardOf(userIdOf.apply(row)) == shard)
+                .toList())) {
+            merged.addAll(rows);
+        }
+        return merged;
+    }
+
+    /** 끝난 작업은 결과(예외)를 확인하고 목록에서 뺀다 */
+    private static void drainCompleted(List<Future<?>> futures) throws InterruptedException, ExecutionException {
+        for (var it = futures.iterator(); it.hasNext(); ) {
+            Future<?> f = it.next();
+            if (f.isDone()) {
+                f.get();
+                it.remove();
+            }
+        }
+    }
+
+    private static Map<Long, Long> toMap(List<UserIdCount> rows) {
+        Map<Long, Long> map = new HashMap<>(rows.size() * 2);
+        for (UserIdCount row : rows) {
+            map.put(row.getUserId(), row.getCnt());
+        }
+        return map;
+    }
+
+    /** 한 번의 점검 실행 동안 공유되는 상태 */
+    private class Job {
+        final LocalDate date;
+        final boolean repair;
+        final SimpleRateLimiter limiter;
+        final String lockToken;
+
+        final AtomicLong usersScanned = new AtomicLong();
+        final AtomicLong rangesScanned = new AtomicLong();
+        final AtomicLong redisKeysScanned = new AtomicLong();
+        final AtomicLong cacheMissing = new AtomicLong();
+        final AtomicLong cacheOrphan = new AtomicLong();
+        final AtomicLong ledgerMismatch = new AtomicLong();
+        final AtomicLong repaired = new AtomicLong();
+        final List<String> samples = Collections.synchronizedList(new ArrayList<>());
+
+        Job(LocalDate date, boolean repair, SimpleRateLimiter limiter, String lockToken) {
+            this.date = date;
+            this.repair = repair;
+            this.limiter = limiter;
+            this.lockToken = lockToken;
+        }
+
+        /** 구간 순회와 고아 키 대기 양쪽에서 연장 (잃었으면 중단) */
+        void keepLock() {
+            if (!redisLock.extend(LOCK_KEY, lockToken, lockTtl)) {
+                throw new IllegalStateException("정합성 점검 잠금을 잃었습니다.");
+            }
+        }
+
+        void mismatch(String type, AtomicLong counter, String sample) {
+            counter.incrementAndGet();
+            meterRegistry.counter("pointsync.reconciliation.mismatches", "type", type).increment();
+            if (samples.size() < MAX_SAMPLES) {
+                samples.add(sample);
+            }
+        }
+
+        void repaired(String type) {
+            repaired.incrementAndGet();
+            meterRegistry.counter("pointsync.reconciliation.repairs", "type", type).increment();
+        }
+
+        ReconciliationReport toReport(long elapsedMs) {
+            return new ReconciliationReport(date, repair, usersScanned.get(), rangesScanned.get(),
+                    redisKeysScanned.get(), cacheMissing.get(), cacheOrphan.get(), ledgerMismatch.get(),
+                    repaired.get(), elapsedMs, List.copyOf(samples));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.project.pointsync.service;
+
+import com.project.pointsync.domain.PointLedger;
+import com.project.pointsync.dto.PointLedger.PointLedgerResDto;
+import com.project.pointsync.dto.Shard.ShardStatsResDto;
+import com.project.pointsync.global.shard.ShardResolver;
+import com.project.pointsync.global.shard.ShardTemplate;
+import com.project.pointsync.global.time.TimeProvider;
+import com.project.pointsync.repository.AttendanceLogRepository;
+import com.project.pointsync.repository.PointLedgerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 여러 샤드에 걸친 관리자 조회 (모든 샤드에 병렬 질의 후 병합)
+ */
+@Service
+@RequiredArgsConstructor
+public class ShardAdminService {
+
+    private final AttendanceLogRepository attendanceLogRepository;
+    private final PointLedgerRepository pointLedgerRepository;
+    private final ShardTemplate shardTemplate;
+    private final ShardResolver shardResolver;
+    private final TimeProvider time;
+
+    /** 샤드별 오늘 출석 수 / 원장 행 수 */
+    public List<ShardStatsResDto> getStats() {
+        LocalDate today = time.today();
+        List<Integer> ring = shardResolver.ringShards();
+        return shardTemplate.fanOut(shard -> new ShardStatsResDto(
+                shard,
+                ring.contains(shard),
+                attendanceLogRepository.countByAttendDate(today),
+                pointLedgerRepository.count()));
+    }
+
+    /**
+     * 전체 샤드 최신 원장 size 건
+     * - 샤드마다 id 역순 상위 size 건을 받아 k-way 병합 (Snowflake id 는 생성 시각 순)
+     * - 이동 중 복사본이 중복으로 보이지 않게 현재 소유 샤드의 행만 남긴다
+     */
+    public List<PointLedgerResDto> getRecentLedger(int size) {
+        List<List<PointLedger>> perShard = shardTemplate.fanOut(shard ->
+                pointLedgerRepository.findByOrderByIdDesc(PageRequest.of(0, size)).stream()
+                        .filter(p -> shardResolver.shardOf(p.getUserId()) == shard)
+                        .toList());
+
+        // {샤드 인덱스, 샤드 내 위치}
+        PriorityQueue<int[]> heads = new PriorityQueue<>(
+                Comparator.comparingLong((int[] h) -> perShard.get(h[0]).get(h[1]).getId()).reversed());
+        for (int i = 0; i < perShard.size(); i++) {
+            if (!perShard.get(i).isEmpty()) {
+                heads.add(new int[]{i, 0});
+            }
+        }
+        List<PointLedgerResDto> merged = new ArrayList<>(size);
+        while (merged.size() < size && !heads.isEmpty()) {
+            int[] head = heads.poll();
+            List<PointLedger> rows = perShard.get(head[0]);
+            merged.add(PointLedgerResDto.from(rows.get(head[1])));
+            if (head[1] + 1 < rows.size()) {
+                heads.add(new int[]{head[0], head[1] + 1});
+            }
+        }
+        return merged;
+    }
+}
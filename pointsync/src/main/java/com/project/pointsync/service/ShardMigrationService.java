@@ -0,0 +1,521 @@
+package com.project.pointsync.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.pointsync.domain.ShardRing;
+import com.project.pointsync.domain.UserShard;
+import com.project.pointsync.dto.Shard.ShardMoveResDto;
+import com.project.pointsync.dto.Shard.ShardMoveStatus;
+import com.project.pointsync.dto.Shard.ShardRebalanceStatus;
+import com.project.pointsync.global.exception.CustomException;
+import com.project.pointsync.global.exception.ErrorCode;
+import com.project.pointsync.global.id.Snowflake;
+import com.project.pointsync.global.redis.RedisLock;
+import com.project.pointsync.global.shard.ConsistentHashRing;
+import com.project.pointsync.global.shard.ShardProperties;
+import com.project.pointsync.global.shard.ShardResolver;
+import com.project.pointsync.global.shard.ShardRoutingDataSource;
+import com.project.pointsync.global.time.TimeProvider;
+import com.project.pointsync.repository.ShardRingRepository;
+import com.project.pointsync.repository.UserRepository;
+import com.project.pointsync.repository.UserShardRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 사용자 단위 온라인 리샤딩
+ * 1. user_shard 에 이동 중(targetShardId) 표시 -> 모든 서버가 쓰기를 거절 (읽기는 원래 샤드)
+ * 2. propagation-delay 만큼 대기: 다른 서버가 표시를 읽고, 진행 중이던 쓰기 트랜잭션이 끝나도록
+ * 3. 원래 샤드 -> 대상 샤드로 id 를 유지한 채 keyset 배치 복사 (이전 시도 잔여분은 먼저 지움)
+ * 4. 이동 완료 표시 -> 읽기/쓰기 모두 대상 샤드
+ * 5. 다시 대기 후 원래 샤드의 행을 배치 삭제 (느린 서버의 읽기가 빈 결과를 보지 않게)
+ * - rebalance (서버 간 Redis 잠금으로 한 곳에서만)
+ *   1. shard_ring 에 목표 ring 과 cutover(지금 + propagation-delay 시각의 최소 id)를 기록하고 대기:
+ *      cutover 이후 가입자는 처음부터 목표 ring 샤드에 만들어진다
+ *   2. cutover 이전 사용자 중 샤드가 바뀌는 사용자를 배치 단위로 위 절차로 옮긴다 (대기는 배치당 한 번씩).
+ *      옮긴 사용자는 user_shard 에 목표 샤드로 고정된다
+ *   3. 실패가 없으면 ring 을 목표 구성으로 전환 (이 시점에 데이터 위치가 바뀌는 사용자는 없다).
+ *      실패가 있으면 전환하지 않고, 같은 ring 으로 다시 실행하면 같은 cutover 로 이어서 진행한다
+ *   4. 다시 대기 후 새 ring 결과와 같아진 user_shard 행을 지운다
+ */
+@Service
+@Slf4j
+public class ShardMigrationService {
+
+    private static final List<TableSpec> TABLES = List.of(
+            new TableSpec("attendance_log", "id, user_id, attend_date, created_at, updated_at"),
+            new TableSpec("point_ledger", "id, user_id, amount, reason, created_at, updated_at"));
+
+    private static final String REBALANCE_LOCK_KEY = "shard:rebalance:lock";
+    private static final String MOVE_PREFIX = "shard:move:";
+    private static final Duration MOVE_STATUS_TTL = Duration.ofDays(7);
+
+    private final ShardResolver resolver;
+    private final UserShardRepository userShardRepository;
+    private final ShardRingRepository shardRingRepository;
+    private final UserRepository userRepository;
+    private final RedisLock redisLock;
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final Map<Object, DataSource> shardDataSources;
+    private final Duration propagationDelay;
+    private final TimeProvider time;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final Duration lockTtl;
+
+    private final ExecutorService rebalanceExecutor = Executors.newSingleThreadExecutor();
+    private final ExecutorService moveExecutor = Executors.newSingleThreadExecutor();
+    private final AtomicReference<Rebalance> rebalance = new AtomicReference<>();
+
+    public ShardMigrationService(ShardResolver resolver,
+                                 UserShardRepository userShardRepository,
+                                 ShardRingRepository shardRingRepository,
+                                 UserRepository userRepository,
+                                 RedisLock redisLock,
+                                 StringRedisTemplate redis,
+                                 ObjectMapper objectMapper,
+                                 ShardRoutingDataSource shardDataSource,
+                                 ShardProperties properties,
+                                 TimeProvider time,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${pointsync.shards.move-batch-size:500}") int batchSize,
+                                 @Value("${pointsync.shards.rebalance-lock-ttl:PT5M}") Duration lockTtl) {
+        this.resolver = resolver;
+        this.userShardRepository = userShardRepository;
+        this.shardRingRepository = shardRingRepository;
+        this.userRepository = userRepository;
+        this.redisLock = redisLock;
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.shardDataSources = shardDataSource.getResolvedDataSources();
+        this.propagationDelay = properties.propagationDelay();
+        this.time = time;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.lockTtl = lockTtl;
+    }
+
+    /**
+     * 한 사용자를 대상 샤드로 이동 (백그라운드, 사용자마다 전체 서버에서 한 번에 하나)
+     * - propagation-delay 대기가 두 번 들어가므로 요청 스레드에서 기다리지 않고 moveStatus 로 확인한다
+     */
+    public ShardMoveStatus startMove(Long userId, int targetShard) {
+        requireShard(targetShard);
+        userRepository.findById(userId).orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        if (resolver.isMoving(userId)) {
+            throw new CustomException(ErrorCode.USER_SHARD_MOVING);
+        }
+        String lockKey = MOVE_PREFIX + "lock:" + userId;
+        String token = redisLock.tryLock(lockKey, lockTtl);
+        if (token == null) {
+            throw new CustomException(ErrorCode.USER_SHARD_MOVING);
+        }
+        try {
+            Move move = new Move(userId, resolver.shardOf(userId), targetShard);
+            if (move.from == move.to) {
+                redisLock.unlock(lockKey, token);
+                ShardMoveStatus done = new ShardMoveStatus(ShardMoveStatus.State.DONE, move.toResult(),
+                        time.now(), time.now(), null);
+                saveMoveStatus(userId, done);
+                return done;
+            }
+            ShardMoveStatus started = new ShardMoveStatus(ShardMoveStatus.State.RUNNING, move.toResult(),
+                    time.now(), null, null);
+            saveMoveStatus(userId, started);
+            moveExecutor.submit(() -> runMove(move, started, lockKey, token));
+            return started;
+        } catch (RuntimeException e) {
+            redisLock.unlock(lockKey, token);
+            throw e;
+        }
+    }
+
+    /** 사용자 이동 진행 상태 */
+    public ShardMoveStatus moveStatus(Long userId) {
+        String json = redis.opsForValue().get(MOVE_PREFIX + userId);
+        if (json == null) {
+            return new ShardMoveStatus(ShardMoveStatus.State.IDLE, null, null, null, null);
+        }
+        try {
+            return objectMapper.readValue(json, ShardMoveStatus.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("샤드 이동 상태를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private void runMove(Move move, ShardMoveStatus started, String lockKey, String token) {
+        try {
+            moveAll(List.of(move));
+            saveMoveStatus(move.userId, new ShardMoveStatus(ShardMoveStatus.State.DONE, move.toResult(),
+                    started.startedAt(), time.now(), null));
+        } catch (RuntimeException e) {
+            log.warn("샤드 이동 실패 userId={}, {} -> {}", move.userId, move.from, move.to, e);
+            saveMoveStatus(move.userId, new ShardMoveStatus(ShardMoveStatus.State.FAILED, move.toResult(),
+                    started.startedAt(), time.now(), e.getMessage()));
+        } finally {
+            redisLock.unlock(lockKey, token);
+        }
+    }
+
+    private void saveMoveStatus(Long userId, ShardMoveStatus status) {
+        try {
+            redis.opsForValue().set(MOVE_PREFIX + userId, objectMapper.writeValueAsString(status), MOVE_STATUS_TTL);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("샤드 이동 상태를 저장할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 새 ring 구성으로 사용자 재분배 (백그라운드, 전체 서버에서 한 번에 하나)
+     * - 끝나지 못한 재분배가 있으면 같은 목표 ring 으로만 다시 시작할 수 있다
+     */
+    public ShardRebalanceStatus startRebalance(List<Integer> newRing) {
+        if (newRing.isEmpty()) {
+            throw new CustomException(ErrorCode.SHARD_NOT_FOUND);
+        }
+        newRing.forEach(this::requireShard);
+        String token = redisLock.tryLock(REBALANCE_LOCK_KEY, lockTtl);
+        if (token == null) {
+            throw new CustomException(ErrorCode.SHARD_REBALANCE_IN_PROGRESS);
+        }
+        try {
+            ShardRing ring = beginRebalance(List.copyOf(newRing));
+            Rebalance job = new Rebalance(ring.targetShards(), ring.getCutoverUserId());
+            rebalance.set(job);
+            rebalanceExecutor.submit(() -> runRebalance(job, token));
+            return job.toStatus();
+        } catch (RuntimeException e) {
+            redisLock.unlock(REBALANCE_LOCK_KEY, token);
+            throw e;
+        }
+    }
+
+    /** 이 서버가 실행한 재분배 진행 상황, 없으면 shard_ring 기준 (목표 ring 이 남아 있으면 미완료) */
+    public ShardRebalanceStatus rebalanceStatus() {
+        Rebalance current = rebalance.get();
+        if (current != null) {
+            return current.toStatus();
+        }
+        return shardRingRepository.findById(ShardRing.ID)
+                .map(ring -> new ShardRebalanceStatus(ring.isRebalancing(),
+                        ring.isRebalancing() ? ring.targetShards() : ring.ringShards(), 0, 0, 0, 0, ring.getUpdatedAt()))
+                .orElseGet(() -> new ShardRebalanceStatus(false, resolver.ringShards(), 0, 0, 0, 0, null));
+    }
+
+    // 목표 ring 과 cutover 기록 (이어서 실행하면 기존 cutover 유지)
+    private ShardRing beginRebalance(List<Integer> target) {
+        ShardRing ring = shardRingRepository.findById(ShardRing.ID)
+                .orElseThrow(() -> new IllegalStateException("shard_ring 이 없습니다."));
+        if (ring.isRebalancing()) {
+            if (!ring.targetShards().equals(target)) {
+                throw new CustomException(ErrorCode.SHARD_REBALANCE_IN_PROGRESS, "target=" + ring.targetShards());
+            }
+            return ring;
+        }
+        // 다른 서버가 목표 ring 을 읽기 전에 만들어진 사용자는 현재 ring 에 있으므로 cutover 이전으로 둔다
+        ring.startRebalance(target, Snowflake.minIdAt(System.currentTimeMillis() + propagationDelay.toMillis()));
+        try {
+            ring = shardRingRepository.saveAndFlush(ring);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new CustomException(ErrorCode.SHARD_REBALANCE_IN_PROGRESS);
+        }
+        resolver.apply(ring);
+        return ring;
+    }
+
+    private void runRebalance(Rebalance job, String token) {
+        ConsistentHashRing target = resolver.ringOf(job.ring);
+        try {
+            // 모든 서버가 cutover 를 읽을 때까지 (이후 가입자는 목표 ring 샤드에 만들어진다)
+            awaitPropagation();
+            long afterId = 0L;
+            while (true) {
+                extendLock(token);
+                List<Long> ids = userRepository.findIdsAfter(afterId, PageRequest.of(0, batchSize)).stream()
+                        .filter(id -> id < job.cutoverUserId)
+                        .toList();
+                if (ids.isEmpty()) {
+                    break;
+                }
+                List<Move> moves = new ArrayList<>();
+                for (Long userId : ids) {
+                    int from = resolver.shardOf(userId);
+                    int to = target.shardOf(userId);
+                    if (from != to && !resolver.isMoving(userId)) {
+                        moves.add(new Move(userId, from, to));
+                    }
+                }
+                job.scanned.addAndGet(ids.size());
+                if (!moves.isEmpty()) {
+                    try {
+                        moveAll(moves);
+                        job.moved.addAndGet(moves.size());
+                    } catch (RuntimeException e) {
+                        job.failures.addAndGet(moves.size());
+                        log.warn("샤드 재분배 배치 실패, 다음 배치로 진행 users={}..{}", ids.get(0), ids.get(ids.size() - 1), e);
+                    }
+                }
+                job.touch();
+                afterId = ids.get(ids.size() - 1);
+            }
+            if (job.failures.get() > 0) {
+                // 못 옮긴 사용자가 현재 ring 에 남아 있어 전환하면 잘못된 샤드를 보게 된다
+                log.warn("샤드 재분배 미완료, ring 을 전환하지 않음 (같은 ring 으로 다시 실행) ring={}, failures={}",
+                        job.ring, job.failures.get());
+                return;
+            }
+
+            ShardRing ring = shardRingRepository.findById(ShardRing.ID).orElseThrow();
+            ring.completeRebalance();
+            resolver.apply(shardRingRepository.saveAndFlush(ring));
+            // 모든 서버가 새 ring 을 쓰게 된 뒤에 고정을 푼다
+            awaitPropagation();
+            job.pinsRemoved.addAndGet(cleanUpPins(target, token));
+            log.info("샤드 재분배 완료 ring={}, scanned={}, moved={}, pinsRemoved={}",
+                    job.ring, job.scanned.get(), job.moved.get(), job.pinsRemoved.get());
+        } catch (RuntimeException e) {
+            log.warn("샤드 재분배 중단 ring={}", job.ring, e);
+        } finally {
+            job.running = false;
+            job.touch();
+            redisLock.unlock(REBALANCE_LOCK_KEY, token);
+        }
+    }
+
+    // ring 결과와 같은 고정 행 삭제 (user_shard 와 각 서버 메모리를 ring 과 다른 사용자만으로 유지)
+    private long cleanUpPins(ConsistentHashRing ring, String token) {
+        long removed = 0;
+        long afterId = 0L;
+        while (true) {
+            extendLock(token);
+            List<UserShard> rows = userShardRepository.findByUserIdGreaterThanOrderByUserIdAsc(
+                    afterId, PageRequest.of(0, batchSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+            List<Long> settled = rows.stream()
+                    .filter(row -> !row.isMoving() && row.getShardId() == ring.shardOf(row.getUserId()))
+                    .map(UserShard::getUserId)
+                    .toList();
+            if (!settled.isEmpty()) {
+                removed += userShardRepository.deleteSettled(settled);
+            }
+            afterId = rows.get(rows.size() - 1).getUserId();
+        }
+        // 지운 행은 워터마크 갱신으로 보이지 않으므로 version 을 올려 각 서버가 전체를 다시 읽게 한다
+        ShardRing row = shardRingRepository.findById(ShardRing.ID).orElseThrow();
+        row.pinsCleaned(time.now());
+        resolver.apply(shardRingRepository.saveAndFlush(row));
+        return removed;
+    }
+
+    private void extendLock(String token) {
+        if (!redisLock.extend(REBALANCE_LOCK_KEY, token, lockTtl)) {
+            throw new IllegalStateException("샤드 재분배 잠금을 잃었습니다.");
+        }
+    }
+
+    private void moveAll(List<Move> moves) {
+        List<UserShard> rows = new ArrayList<>(moves.size());
+        for (Move move : moves) {
+            UserShard row = userShardRepository.findById(move.userId)
+                    .map(r -> {
+                        r.startMove(move.to);
+                        return r;
+                    })
+                    .orElseGet(() -> UserShard.moving(move.userId, move.from, move.to));
+            rows.add(row);
+        }
+        rows = userShardRepository.saveAll(rows);
+        rows.forEach(resolver::apply);
+        awaitPropagation();
+
+        try {
+            for (Move move : moves) {
+                copy(move);
+            }
+        } catch (RuntimeException e) {
+            // 원래 샤드가 그대로 원본이므로 표시만 되돌린다 (대상 샤드 잔여분은 다음 시도에서 지움)
+            rows.forEach(UserShard::cancelMove);
+            userShardRepository.saveAll(rows).forEach(resolver::apply);
+            meterRegistry.counter("pointsync.shard.moves", "result", "failed").increment(moves.size());
+            throw e;
+        }
+
+        rows.forEach(UserShard::completeMove);
+        userShardRepository.saveAll(rows).forEach(resolver::apply);
+        meterRegistry.counter("pointsync.shard.moves", "result", "moved").increment(moves.size());
+        awaitPropagation();
+
+        for (Move move : moves) {
+            try {
+                deleteSource(move);
+            } catch (RuntimeException e) {
+                // 이미 대상 샤드가 원본이 됐으므로 남은 행은 소유 샤드 필터로 무시된다
+                log.warn("이동 후 원래 샤드 정리 실패 userId={}, shard={}", move.userId, move.from, e);
+            }
+        }
+    }
+
+    private void copy(Move move) {
+        JdbcTemplate source = jdbc(move.from);
+        JdbcTemplate target = jdbc(move.to);
+        for (TableSpec table : TABLES) {
+            target.update("delete from " + table.name + " where user_id = ?", move.userId);
+
+            String select = "select " + table.columns + " from " + table.name
+                    + " where user_id = ? and id > ? order by id limit " + batchSize;
+            String insert = "insert into " + table.name + " (" + table.columns + ") values ("
+                    + String.join(", ", Collections.nCopies(table.columnCount(), "?")) + ")";
+            long afterId = 0L;
+            while (true) {
+                List<Object[]> batch = source.query(select, (rs, rowNum) -> {
+                    Object[] values = new Object[table.columnCount()];
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = rs.getObject(i + 1);
+                    }
+                    return values;
+                }, move.userId, afterId);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                target.batchUpdate(insert, batch);
+                move.copied(table.name, batch.size());
+                afterId = ((Number) batch.get(batch.size() - 1)[0]).longValue();
+                if (batch.size() < batchSize) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private void deleteSource(Move move) {
+        JdbcTemplate source = jdbc(move.from);
+        for (TableSpec table : TABLES) {
+            // id keyset 배치로 지운다 (배치마다 자동 커밋으로 락을 짧게 유지)
+            String select = "select id from " + table.name + " where user_id = ? and id > ? order by id limit " + batchSize;
+            long afterId = 0L;
+            while (true) {
+                List<Long> ids = source.queryForList(select, Long.class, move.userId, afterId);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                source.update("delete from " + table.name + " where id in ("
+                        + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")", ids.toArray());
+                afterId = ids.get(ids.size() - 1);
+                if (ids.size() < batchSize) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private JdbcTemplate jdbc(int shard) {
+        DataSource dataSource = shardDataSources.get(shard);
+        if (dataSource == null) {
+            throw new CustomException(ErrorCode.SHARD_NOT_FOUND, "shard=" + shard);
+        }
+        return new JdbcTemplate(dataSource);
+    }
+
+    private void requireShard(int shard) {
+        if (!resolver.shardIds().contains(shard)) {
+            throw new CustomException(ErrorCode.SHARD_NOT_FOUND, "shard=" + shard);
+        }
+    }
+
+    private void awaitPropagation() {
+        if (propagationDelay.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(propagationDelay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("샤드 이동 대기 중 중단되었습니다.", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebalanceExecutor.shutdownNow();
+        moveExecutor.shutdownNow();
+    }
+
+    private record TableSpec(String name, String columns) {
+        int columnCount() {
+            return columns.split(",").length;
+        }
+    }
+
+    private static class Move {
+        final Long userId;
+        final int from;
+        final int to;
+        long attendanceCopied;
+        long ledgerCopied;
+
+        Move(Long userId, int from, int to) {
+            this.userId = userId;
+            this.from = from;
+            this.to = to;
+        }
+
+        void copied(String table, int rows) {
+            if (table.equals("attendance_log")) {
+                attendanceCopied += rows;
+            } else {
+                ledgerCopied += rows;
+            }
+        }
+
+        ShardMoveResDto toResult() {
+            return new ShardMoveResDto(userId, from, to, attendanceCopied, ledgerCopied);
+        }
+    }
+
+    private class Rebalance {
+        final List<Integer> ring;
+        final long cutoverUserId;
+        final AtomicLong scanned = new AtomicLong();
+        final AtomicLong moved = new AtomicLong();
+        final AtomicLong failures = new AtomicLong();
+        final AtomicLong pinsRemoved = new AtomicLong();
+        volatile boolean running = true;
+        volatile LocalDateTime updatedAt = time.now();
+
+        Rebalance(List<Integer> ring, long cutoverUserId) {
+            this.ring = ring;
+            this.cutoverUserId = cutoverUserId;
+        }
+
+        void touch() {
+            updatedAt = time.now();
+        }
+
+        ShardRebalanceStatus toStatus() {
+            return new ShardRebalanceStatus(running, ring, scanned.get(), moved.get(), failures.get(),
+                    pinsRemoved.get(), updatedAt);
+        }
+    }
+}
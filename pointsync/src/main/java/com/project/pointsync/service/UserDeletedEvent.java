@@ -0,0 +1,5 @@
+package com.project.pointsync.service;
+
+/** 사용자 tombstone 처리 완료 (커밋 후 정리 시작 신호) */
+public record UserDeletedEvent(Long userId) {
+}
@@ -0,0 +1,285 @@
+package com.project.pointsync.service;
+
+import com.project.pointsync.domain.User;
+import com.project.pointsync.dto.User.UserPurgeStatus;
+import com.project.pointsync.global.concurrent.SimpleRateLimiter;
+import com.project.pointsync.global.redis.RedisKeys;
+import com.project.pointsync.global.redis.RedisLock;
+import com.project.pointsync.global.shard.ShardTemplate;
+import com.project.pointsync.global.time.TimeProvider;
+import com.project.pointsync.repository.AttendanceLogRepository;
+import com.project.pointsync.repository.PointLedgerRepository;
+import com.project.pointsync.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * tombstone 처리된 사용자의 연관 데이터를 백그라운드에서 조금씩 지운다
+ * - attendance_log / point_ledger 를 id keyset 으로 작은 배치씩, 배치마다 사용자 샤드의 별도 트랜잭션으로 삭제 (긴 락/undo 방지)
+ * - 배치 사이에 rate limit 을 걸어 실시간 출석 트래픽과 경합하지 않게 한다
+ * - Redis 의 출석 키(오늘/어제, 키 이름을 알고 있으므로 SCAN 없이 DEL)와 통계 ordinal 매핑도 지운다
+ * - 출석 쪽의 tombstone 재확인은 잠금 없이 읽으므로, tombstone 직전에 확인을 통과한 출석이 정리 뒤에 커밋될 수 있다.
+ *   그래서 users 행은 tombstone 이 final-grace 보다 오래된 뒤의 정리에서만 지우고, 그 전 정리는 PENDING 으로 남겨
+ *   sweep 이 한 번 더 훑게 한다 (늦게 들어온 행/키는 그때 지워진다)
+ * - 서버가 중간에 내려가도 주기 점검(sweep)이 남은 tombstone 을 다시 정리한다
+ * - 여러 서버 공유: 사용자별 Redis 잠금으로 한 곳에서만 정리하고, 진행 상태는 Redis 해시(user-purge:{userId})에 남긴다.
+ *   sweep 도 주기마다 한 서버만 실행
+ */
+@Service
+@Slf4j
+public class UserPurgeService {
+
+    private static final String STATUS_PREFIX = "user-purge:";
+    private static final String SWEEP_LOCK_KEY = STATUS_PREFIX + "sweep-lock";
+    private static final Duration STATUS_TTL = Duration.ofDays(1);
+    private static final Duration LOCK_TTL = Duration.ofMinutes(5);
+
+    private final UserRepository userRepository;
+    private final AttendanceLogRepository attendanceLogRepository;
+    private final PointLedgerRepository pointLedgerRepository;
+    private final ShardTemplate shardTemplate;
+    private final StringRedisTemplate redis;
+    private final TimeProvider time;
+    private final MeterRegistry meterRegistry;
+    private final AttendanceAnalyticsService attendanceAnalytics;
+    private final RedisLock redisLock;
+
+    private final int batchSize;
+    private final SimpleRateLimiter batchLimiter;
+    private final ExecutorService executor;
+    private final Duration sweepInterval;
+    private final Duration finalGrace;
+
+    // 이 서버에서 진행 중(또는 대기 중)인 정리 작업 (같은 사용자를 중복 등록하지 않기 위함)
+    private final Map<Long, Progress> running = new ConcurrentHashMap<>();
+
+    public UserPurgeService(UserRepository userRepository,
+                            AttendanceLogRepository attendanceLogRepository,
+                            PointLedgerRepository pointLedgerRepository,
+                            ShardTemplate shardTemplate,
+                            StringRedisTemplate redis,
+                            TimeProvider time,
+                            MeterRegistry meterRegistry,
+                            AttendanceAnalyticsService attendanceAnalytics,
+                            RedisLock redisLock,
+                            @Value("${pointsync.user-purge.batch-size:500}") int batchSize,
+                            @Value("${pointsync.user-purge.batches-per-second:10}") double batchesPerSecond,
+                            @Value("${pointsync.user-purge.threads:2}") int threads,
+                            @Value("${pointsync.user-purge.sweep-interval:PT5M}") Duration sweepInterval,
+                            @Value("${pointsync.user-purge.final-grace:PT1M}") Duration finalGrace) {
+        this.userRepository = userRepository;
+        this.attendanceLogRepository = attendanceLogRepository;
+        this.pointLedgerRepository = pointLedgerRepository;
+        this.shardTemplate = shardTemplate;
+        this.redis = redis;
+        this.time = time;
+        this.meterRegistry = meterRegistry;
+        this.attendanceAnalytics = attendanceAnalytics;
+        this.redisLock = redisLock;
+        this.sweepInterval = sweepInterval;
+        this.finalGrace = finalGrace;
+        this.batchSize = batchSize;
+        this.batchLimiter = new SimpleRateLimiter(batchesPerSecond);
+        this.executor = Executors.newFixedThreadPool(threads);
+        meterRegistry.gaugeMapSize("pointsync.user.purge.active", Tags.empty(), running);
+    }
+
+    /** tombstone 커밋 이후에만 정리를 시작한다 */
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        schedule(event.userId());
+    }
+
+    /** 남은 tombstone 재정리 (재기동/실패 대비). 잠금은 풀지 않고 만료시켜 주기마다 한 서버만 실행 */
+    @Scheduled(fixedDelayString = "${pointsync.user-purge.sweep-interval:PT5M}")
+    public void sweep() {
+        if (redisLock.tryLock(SWEEP_LOCK_KEY, sweepInterval) == null) {
+            return;
+        }
+        List<Long> ids = userRepository.findDeletedIds(PageRequest.of(0, 100));
+        ids.forEach(this::schedule);
+    }
+
+    /** 진행 상태 조회: Redis 진행 기록 > DB tombstone 순 (어느 서버에서 정리 중이든 같은 결과) */
+    public Optional<UserPurgeStatus> status(Long userId) {
+        Map<Object, Object> saved = redis.opsForHash().entries(STATUS_PREFIX + userId);
+        if (!saved.isEmpty()) {
+            return Optional.of(new UserPurgeStatus(userId,
+                    UserPurgeStatus.State.valueOf((String) saved.get("state")),
+                    Long.parseLong((String) saved.get("attendanceDeleted")),
+                    Long.parseLong((String) saved.get("ledgerDeleted")),
+                    Long.parseLong((String) saved.get("redisKeysDeleted")),
+                    LocalDateTime.parse((String) saved.get("updatedAt"))));
+        }
+        return userRepository.findById(userId)
+                .filter(User::isDeleted)
+                .map(u -> new UserPurgeStatus(userId, UserPurgeStatus.State.PENDING, 0, 0, 0, u.getDeletedAt()));
+    }
+
+    void schedule(Long userId) {
+        Progress progress = new Progress(userId);
+        if (running.putIfAbsent(userId, progress) != null) {
+            return; // 이미 진행 중
+        }
+        executor.submit(() -> purge(progress));
+    }
+
+    private void purge(Progress progress) {
+        Long userId = progress.userId;
+        String lockKey = STATUS_PREFIX + "lock:" + userId;
+        String token = null;
+        try {
+            token = redisLock.tryLock(lockKey, LOCK_TTL);
+            if (token == null) {
+                log.debug("다른 서버가 정리 중 userId={}", userId);
+                return;
+            }
+            // 락을 잡는 사이 다른 서버가 정리를 끝냈으면 할 일이 없다
+            Optional<User> tombstone = userRepository.findById(userId).filter(User::isDeleted);
+            if (tombstone.isEmpty()) {
+                return;
+            }
+            String lockToken = token;
+            Runnable keepLock = () -> {
+                if (!redisLock.extend(lockKey, lockToken, LOCK_TTL)) {
+                    throw new IllegalStateException("사용자 정리 잠금을 잃었습니다. userId=" + userId);
+                }
+            };
+            progress.update(UserPurgeStatus.State.RUNNING);
+
+            deleteAll(userId, progress, keepLock);
+            deleteRedisKeys(userId, progress);
+            attendanceAnalytics.forgetUser(userId);
+            // tombstone 직후에는 사용자 확인을 통과한 출석이 아직 커밋 전일 수 있다. users 행은 남겨 두고 sweep 에서 다시 정리
+            if (tombstone.get().getDeletedAt().plus(finalGrace).isAfter(time.now())) {
+                progress.update(UserPurgeStatus.State.PENDING);
+                log.debug("tombstone 이 final-grace({}) 안이라 다음 sweep 에서 마무리 userId={}", finalGrace, userId);
+                return;
+            }
+            userRepository.deleteById(userId);
+
+            progress.update(UserPurgeStatus.State.DONE);
+            log.info("사용자 정리 완료 userId={}, attendance={}, ledger={}, redisKeys={}", userId,
+                    progress.attendanceDeleted.get(), progress.ledgerDeleted.get(), progress.redisKeysDeleted.get());
+        } catch (RuntimeException e) {
+            log.warn("사용자 정리 실패, 다음 주기에 재시도 userId={}", userId, e);
+            try {
+                progress.update(UserPurgeStatus.State.FAILED);
+            } catch (RuntimeException ignore) {
+                // Redis 장애면 상태도 남길 수 없음 (tombstone 이 남아 있어 sweep 이 다시 잡는다)
+            }
+        } finally {
+            running.remove(userId);
+            if (token != null) {
+                try {
+                    redisLock.unlock(lockKey, token);
+                } catch (RuntimeException e) {
+                    log.debug("사용자 정리 잠금 해제 실패 (TTL 로 만료) userId={}", userId, e);
+                }
+            }
+        }
+    }
+
+    private void deleteAll(Long userId, Progress progress, Runnable keepLock) {
+        deleteInBatches(userId, attendanceLogRepository::findIdsByUserIdAfter,
+                attendanceLogRepository::deleteAllByIdInBatch, progress, progress.attendanceDeleted,
+                "attendance_log", keepLock);
+        deleteInBatches(userId, pointLedgerRepository::findIdsByUserIdAfter,
+                pointLedgerRepository::deleteAllByIdInBatch, progress, progress.ledgerDeleted,
+                "point_ledger", keepLock);
+    }
+
+    private void deleteInBatches(Long userId,
+                                 IdPageQuery query,
+                                 Consumer<List<Long>> deleteBatch,
+                                 Progress progress,
+                                 AtomicLong deleted,
+                                 String table,
+                                 Runnable keepLock) {
+        long afterId = 0L;
+        while (true) {
+            keepLock.run();
+            long from = afterId;
+            List<Long> ids = shardTemplate.read(userId, () -> query.apply(userId, from, PageRequest.of(0, batchSize)));
+            if (ids.isEmpty()) {
+                return;
+            }
+            batchLimiter.acquire();
+            // 배치마다 짧은 트랜잭션 하나 (리샤딩 중이면 예외 -> 다음 sweep 에서 재시도)
+            shardTemplate.write(userId, () -> {
+                deleteBatch.accept(ids);
+                return null;
+            });
+            deleted.addAndGet(ids.size());
+            progress.update(UserPurgeStatus.State.RUNNING);
+            meterRegistry.counter("pointsync.user.purge.rows", "table", table).increment(ids.size());
+            afterId = ids.get(ids.size() - 1);
+            if (ids.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    // 출석 키는 자정까지 TTL 이라 오늘 것만 남아 있지만, 자정 직전 tombstone 이면 어제 키가 아직 있을 수 있다
+    private void deleteRedisKeys(Long userId, Progress progress) {
+        LocalDate today = time.today();
+        Long removed = redis.delete(List.of(
+                RedisKeys.attendance(userId, today),
+                RedisKeys.attendance(userId, today.minusDays(1))));
+        progress.redisKeysDeleted.addAndGet(removed == null ? 0 : removed);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @FunctionalInterface
+    private interface IdPageQuery {
+        List<Long> apply(Long userId, Long afterId, Pageable pageable);
+    }
+
+    private class Progress {
+        final Long userId;
+        final AtomicLong attendanceDeleted = new AtomicLong();
+        final AtomicLong ledgerDeleted = new AtomicLong();
+        final AtomicLong redisKeysDeleted = new AtomicLong();
+
+        Progress(Long userId) {
+            this.userId = userId;
+        }
+
+        /** 진행 상태를 Redis 해시에 기록 (TTL 갱신) */
+        void update(UserPurgeStatus.State state) {
+            String key = STATUS_PREFIX + userId;
+            redis.opsForHash().putAll(key, Map.of(
+                    "state", state.name(),
+                    "attendanceDeleted", String.valueOf(attendanceDeleted.get()),
+                    "ledgerDeleted", String.valueOf(ledgerDeleted.get()),
+                    "redisKeysDeleted", String.valueOf(redisKeysDeleted.get()),
+                    "updatedAt", time.now().toString()));
+            redis.expire(key, STATUS_TTL);
+        }
+    }
+}
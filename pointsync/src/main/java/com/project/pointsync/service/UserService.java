@@ -1,12 +1,17 @@
 package com.project.pointsync.service;
 
 import com.project.pointsync.domain.User;
+import com.project.pointsync.dto.User.UserPurgeStatus;
 import com.project.pointsync.dto.User.UserResDto;
 import com.project.pointsync.global.exception.CustomException;
 import com.project.pointsync.global.exception.ErrorCode;
+import com.project.pointsync.global.time.TimeProvider;
 import com.project.pointsync.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
@@ -17,39 +22,82 @@ import java.util.Optional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final EmailBloomFilter emailBloomFilter;
+    private final UserPurgeService userPurgeService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TimeProvider time;
 
-    /**  회원 가입 처리 (중복 이메일 검증 후 저장) */
-    @Transactional
+    /**
+     * 회원 가입 처리
+     * - 사전 중복 조회 없이 바로 저장하고, 중복은 email 유니크 제약으로 판정
+     * - 커밋 전에 필터에 먼저 등록해야 "가입됐는데 필터엔 없음" 구간이 생기지 않는다
+     * - 저장은 리포지토리 트랜잭션으로 끝내야 실패 후 중복 여부를 다시 조회할 수 있다
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResDto signUp(String name, String email) {
-        if (userRepository.existsByEmail(email)) {
-            throw new CustomException(ErrorCode.USER_EMAIL_DUPLICATE,email);
+        emailBloomFilter.put(email);
+        try {
+            User saved = userRepository.save(User.createUser(name, email));
+            return UserResDto.from(saved);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 제약 위반(길이 초과 등)과 구분하기 위해 실패 경로에서만 한 번 더 확인
+            if (userRepository.existsByEmail(email)) {
+                throw new CustomException(ErrorCode.USER_EMAIL_DUPLICATE, email);
+            }
+            throw e;
         }
-        User user = User.createUser(name, email);
-        User saved = userRepository.save(user);
-        return UserResDto.from(saved);
     }
 
     /** 사용자 정보 조회 (ID로 조회) */
     public UserResDto get(Long userId) {
-        User user = userRepository.findById(userId)
+        User user = userRepository.findActiveById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
         return UserResDto.from(user);
     }
 
-    /** 이메일로 사용자 정보 조회  */
+    /** 이메일로 사용자 정보 조회 (필터상 확실히 미가입이면 DB 조회 생략) */
     public Optional<UserResDto> findByEmail(String email) {
-        return userRepository.findByEmail(email)
+        if (!emailBloomFilter.mightContain(email)) {
+            return Optional.empty();
+        }
+        Optional<UserResDto> found = userRepository.findByEmail(email)
+                .filter(u -> !u.isDeleted())
                 .map(UserResDto::from);
+        if (found.isEmpty()) {
+            emailBloomFilter.recordFalsePositive();
+        }
+        return found;
     }
 
-    /** 이메일 존재 여부 확인 */
+    /** 이메일 존재 여부 확인 (삭제 요청된 사용자는 제외, findByEmail 과 같은 기준) */
     public boolean existsByEmail(String email) {
-        return userRepository.existsByEmail(email);
+        if (!emailBloomFilter.mightContain(email)) {
+            return false;
+        }
+        boolean exists = userRepository.existsByEmailAndDeletedAtIsNull(email);
+        if (!exists) {
+            emailBloomFilter.recordFalsePositive();
+        }
+        return exists;
     }
 
-    /** 사용자 삭제 처리 */
+    /**
+     * 사용자 삭제 처리
+     * - 여기서는 tombstone(deleted_at)만 기록하고 바로 반환
+     * - 출석/포인트 이력, Redis 키, users 행은 커밋 후 UserPurgeService 가 백그라운드에서 정리
+     */
     @Transactional
-    public void delete(Long userId) {
-        userRepository.deleteById(userId);
+    public UserPurgeStatus delete(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        user.markDeleted(time.now());
+        eventPublisher.publishEvent(new UserDeletedEvent(userId));
+        return new UserPurgeStatus(userId, UserPurgeStatus.State.PENDING, 0, 0, 0, user.getDeletedAt());
+    }
+
+    /** 삭제(정리) 진행 상태 조회 */
+    public UserPurgeStatus getPurgeStatus(Long userId) {
+        return userPurgeService.status(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
     }
 }
@@ -0,0 +1,34 @@
+-- 기존 스키마 (ddl-auto: update 로 만들어진 상태, MySQL 8)
+-- 수동 적용 DDL (마이그레이션 도구 없음). 새 DB 에만 적용하고, 이미 운영 중인 DB 는 002 부터 적용한다
+
+create table users (
+    id         bigint       not null auto_increment,
+    name       varchar(50)  not null,
+    email      varchar(100) not null,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id),
+    unique key uk_users_email (email)
+) engine = InnoDB;
+
+create table attendance_log (
+    id          bigint not null auto_increment,
+    user_id     bigint not null,
+    attend_date date   not null,
+    created_at  datetime(6),
+    updated_at  datetime(6),
+    primary key (id),
+    unique key uq_user_day (user_id, attend_date),
+    constraint fk_attendance_log_user foreign key (user_id) references users (id)
+) engine = InnoDB;
+
+create table point_ledger (
+    id         bigint      not null auto_increment,
+    user_id    bigint      not null,
+    amount     integer     not null,
+    reason     varchar(50) not null,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id),
+    constraint fk_point_ledger_user foreign key (user_id) references users (id)
+) engine = InnoDB;
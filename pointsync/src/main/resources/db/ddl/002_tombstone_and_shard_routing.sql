@@ -0,0 +1,76 @@
+-- 기본 DB (users + 0번 샤드) 변경분, prod 는 ddl-auto: validate 이므로 배포 전에 수동으로 한 번 적용한다
+-- - users.deleted_at: 삭제 요청 tombstone (UserPurgeService)
+-- - user_shard / shard_ring: 샤드 배치 (ShardResolver, ShardMigrationService)
+-- - attendance_log / point_ledger: 샤드 DB 에는 users 가 없어 FK 를 없애고 user_id 만 둔다
+-- id 는 Snowflake 로 애플리케이션이 넣는다. 기존 auto_increment 는 남겨도 무방하다 (명시 id 가 우선)
+
+alter table users
+    add column deleted_at datetime(6) null,
+    add index idx_users_deleted_at (deleted_at);
+
+create table user_shard (
+    user_id         bigint  not null,
+    shard_id        integer not null,
+    target_shard_id integer null,
+    created_at      datetime(6),
+    updated_at      datetime(6),
+    primary key (user_id),
+    index idx_user_shard_updated_at (updated_at),
+    index idx_user_shard_target_shard_id (target_shard_id)
+) engine = InnoDB;
+
+-- 행은 처음 뜨는 서버가 pointsync.shards.ring 으로 만든다
+create table shard_ring (
+    id              bigint       not null,
+    ring            varchar(500) not null,
+    target_ring     varchar(500) null,
+    cutover_user_id bigint       null,
+    pins_cleaned_at datetime(6)  null,
+    version         bigint       null,
+    created_at      datetime(6),
+    updated_at      datetime(6),
+    primary key (id)
+) engine = InnoDB;
+
+-- ddl-auto: update 가 만든 FK 는 이름이 해시라 information_schema 에서 찾아 지운다
+set @fk = (select constraint_name from information_schema.referential_constraints
+           where constraint_schema = database() and table_name = 'attendance_log' and referenced_table_name = 'users'
+           limit 1);
+set @ddl = if(@fk is null, 'select 1', concat('alter table attendance_log drop foreign key ', @fk));
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
+
+set @fk = (select constraint_name from information_schema.referential_constraints
+           where constraint_schema = database() and table_name = 'point_ledger' and referenced_table_name = 'users'
+           limit 1);
+set @ddl = if(@fk is null, 'select 1', concat('alter table point_ledger drop foreign key ', @fk));
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
+
+-- 사용자별 원장 조회 / keyset 삭제
+alter table point_ledger
+    add index idx_point_ledger_user_id (user_id, id);
+
+-- FK 를 만들 때 생긴 user_id 단일 인덱스는 FK 를 지운 뒤에도 남는다. 위 인덱스(point_ledger)와
+-- uq_user_day(attendance_log)가 같은 앞 컬럼을 덮으므로 이름과 관계없이 찾아 지운다
+set @idx = (select index_name from information_schema.statistics
+            where table_schema = database() and table_name = 'point_ledger' and index_name <> 'PRIMARY'
+            group by index_name
+            having count(*) = 1 and max(column_name) = 'user_id'
+            limit 1);
+set @ddl = if(@idx is null, 'select 1', concat('alter table point_ledger drop index `', @idx, '`'));
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
+
+set @idx = (select index_name from information_schema.statistics
+            where table_schema = database() and table_name = 'attendance_log' and index_name <> 'PRIMARY'
+            group by index_name
+            having count(*) = 1 and max(column_name) = 'user_id'
+            limit 1);
+set @ddl = if(@idx is null, 'select 1', concat('alter table attendance_log drop index `', @idx, '`'));
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
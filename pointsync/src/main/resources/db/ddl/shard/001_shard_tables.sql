@@ -0,0 +1,23 @@
+-- 추가 샤드 DB (1번 이후) 초기 스키마. 0번 샤드는 기본 DB 라 db/ddl 의 001, 002 를 따른다
+-- 수동 적용 DDL: pointsync.shards.datasources 에 추가하기 전에 적용한다
+
+create table attendance_log (
+    id          bigint not null,
+    user_id     bigint not null,
+    attend_date date   not null,
+    created_at  datetime(6),
+    updated_at  datetime(6),
+    primary key (id),
+    unique key uq_user_day (user_id, attend_date)
+) engine = InnoDB;
+
+create table point_ledger (
+    id         bigint      not null,
+    user_id    bigint      not null,
+    amount     integer     not null,
+    reason     varchar(50) not null,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id),
+    index idx_point_ledger_user_id (user_id, id)
+) engine = InnoDB;
@@ -0,0 +1,115 @@
+package com.project.pointsync.global.bloom;
+
+import com.project.pointsync.support.EmbeddedRedisExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(EmbeddedRedisExtension.class)
+class RedisBloomFilterTest {
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redis;
+    private RedisBloomFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("localhost", EmbeddedRedisExtension.PORT));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redis = new StringRedisTemplate(connectionFactory);
+        // 레이어가 여러 개 생기도록 작은 용량
+        filter = new RedisBloomFilter(redis, "bloom-test:" + UUID.randomUUID(), 100, 0.01);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void noFalseNegativesAcrossLayers() {
+        filter.rebuild(List.of(), 60);
+        List<String> added = values("member", 1_000);
+        added.forEach(filter::put);
+
+        assertThat(added).allMatch(filter::mightContain);
+
+        long falsePositives = values("stranger", 1_000).stream().filter(filter::mightContain).count();
+        assertThat(falsePositives).isLessThan(50);
+    }
+
+    @Test
+    void failsOpenBeforeBuildAndWhileDirty() {
+        assertThat(filter.mightContain("anyone")).isTrue();
+
+        filter.rebuild(List.of(values("member", 100)), 60);
+        List<String> strangers = values("stranger", 100);
+        assertThat(strangers.stream().filter(filter::mightContain).count()).isLessThan(100);
+
+        filter.markDirty();
+        assertThat(strangers).allMatch(filter::mightContain);
+
+        // 재구축이 끝나면 dirty 가 풀리고 다시 "확실히 없음"을 돌려준다
+        filter.rebuild(List.of(values("member", 100)), 60);
+        assertThat(filter.isDirty()).isFalse();
+        assertThat(strangers.stream().filter(filter::mightContain).count()).isLessThan(100);
+    }
+
+    @Test
+    void rebuildKeepsPutsMadeWhileFilling() {
+        filter.rebuild(List.of(), 60);
+
+        filter.rebuild(() -> batchesWith(() -> filter.put("late@test.com")), 60);
+
+        assertThat(filter.mightContain("late@test.com")).isTrue();
+    }
+
+    @Test
+    void dirtyMarkedDuringRebuildSurvivesIt() {
+        filter.rebuild(List.of(), 60);
+        filter.markDirty();
+
+        filter.rebuild(() -> batchesWith(filter::markDirty), 60);
+
+        assertThat(filter.isDirty()).isTrue();
+    }
+
+    /** 첫 배치를 넘긴 뒤 duringRebuild 를 실행하고 두 번째 배치를 넘긴다 */
+    private Iterator<List<String>> batchesWith(Runnable duringRebuild) {
+        Iterator<List<String>> batches = List.of(values("a", 10), values("b", 10)).iterator();
+        return new Iterator<>() {
+            private boolean first = true;
+
+            @Override
+            public boolean hasNext() {
+                return batches.hasNext();
+            }
+
+            @Override
+            public List<String> next() {
+                if (!first) {
+                    duringRebuild.run();
+                }
+                first = false;
+                return batches.next();
+            }
+        };
+    }
+
+    private static List<String> values(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> prefix + i + "@test.com").toList();
+    }
+}
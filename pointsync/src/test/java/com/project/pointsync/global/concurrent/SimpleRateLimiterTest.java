@@ -0,0 +1,71 @@
+package com.project.pointsync.global.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SimpleRateLimiterTest {
+
+    @Test
+    void spacesPermitsEvenly() {
+        SimpleRateLimiter limiter = new SimpleRateLimiter(50); // 20ms 간격
+
+        long started = System.nanoTime();
+        for (int i = 0; i < 11; i++) {
+            limiter.acquire();
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // 첫 호출은 바로 통과, 이후 10번은 20ms 씩
+        assertThat(elapsedMs).isBetween(180L, 2_000L);
+    }
+
+    @Test
+    void sharedAcrossThreadsWithoutBurst() throws InterruptedException {
+        SimpleRateLimiter limiter = new SimpleRateLimiter(100); // 10ms 간격
+
+        long started = System.nanoTime();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 5; i++) {
+                    limiter.acquire();
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // 스레드 수와 관계없이 전체 20번이 10ms 간격으로 나뉜다
+        assertThat(elapsedMs).isBetween(180L, 2_000L);
+    }
+
+    @Test
+    void idleTimeIsNotSavedUpAsBurst() throws InterruptedException {
+        SimpleRateLimiter limiter = new SimpleRateLimiter(20); // 50ms 간격
+        Thread.sleep(200);
+
+        long started = System.nanoTime();
+        limiter.acquire();
+        limiter.acquire();
+        limiter.acquire();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(90L);
+    }
+
+    @Test
+    void rejectsNonPositiveRate() {
+        assertThatThrownBy(() -> new SimpleRateLimiter(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SimpleRateLimiter(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,55 @@
+package com.project.pointsync.global.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NodeIdResolverTest {
+
+    @Test
+    void configuredNodeIdWins() {
+        Map<String, Object> settings = Map.of(
+                NodeIdResolver.NODE_ID_SETTING, "7",
+                NodeIdResolver.FROM_ORDINAL_SETTING, "true");
+
+        assertThat(NodeIdResolver.resolve(settings, "pointsync-3")).isEqualTo(7);
+    }
+
+    @Test
+    void hostnameSuffixIsIgnoredWithoutOptIn() {
+        // EC2 / Deployment 이름도 "-숫자" 로 끝나므로 설정 없이는 ordinal 로 보지 않는다
+        assertThatThrownBy(() -> NodeIdResolver.resolve(Map.of(), "ip-10-0-1-23"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> NodeIdResolver.resolve(Map.of(), "app-7"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void statefulSetOrdinalWhenOptedIn() {
+        Map<String, Object> settings = Map.of(NodeIdResolver.FROM_ORDINAL_SETTING, "true");
+
+        assertThat(NodeIdResolver.resolve(settings, "pointsync-3")).isEqualTo(3);
+    }
+
+    @Test
+    void optInWithoutOrdinalFailsFast() {
+        Map<String, Object> settings = Map.of(NodeIdResolver.FROM_ORDINAL_SETTING, "true");
+
+        assertThatThrownBy(() -> NodeIdResolver.resolve(settings, "pointsync"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> NodeIdResolver.resolve(settings, "pointsync-5000"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void derivedNodeIdOnlyWhenAllowed() {
+        Map<String, Object> settings = Map.of(NodeIdResolver.ALLOW_DERIVED_SETTING, "true");
+
+        assertThat(NodeIdResolver.resolve(settings, "laptop")).isBetween(0, Snowflake.MAX_NODE_ID);
+        assertThatThrownBy(() -> NodeIdResolver.resolve(Map.of(), "laptop"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
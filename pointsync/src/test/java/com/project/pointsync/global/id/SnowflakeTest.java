@@ -0,0 +1,82 @@
+package com.project.pointsync.global.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeTest {
+
+    private static final long BASE = Snowflake.EPOCH_MILLIS + 1_000L;
+
+    @Test
+    void idsIncreaseMonotonicallyWhileClockAdvances() {
+        AtomicLong clock = new AtomicLong(BASE);
+        Snowflake snowflake = new Snowflake(7, clock::get);
+
+        long previous = snowflake.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            if (i % 3 == 0) {
+                clock.incrementAndGet();
+            }
+            long next = snowflake.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void idsKeepIncreasingWhenClockGoesBackwards() {
+        AtomicLong clock = new AtomicLong(BASE + 500);
+        Snowflake snowflake = new Snowflake(7, clock::get);
+
+        long beforeRollback = snowflake.nextId();
+        clock.set(BASE);
+        long afterRollback = snowflake.nextId();
+
+        assertThat(afterRollback).isGreaterThan(beforeRollback);
+        assertThat(millisOf(afterRollback)).isEqualTo(millisOf(beforeRollback));
+        assertThat(sequenceOf(afterRollback)).isEqualTo(1);
+    }
+
+    @Test
+    void sequenceRolloverBorrowsNextMillisecond() {
+        Snowflake snowflake = new Snowflake(7, () -> BASE);
+
+        long last = 0;
+        for (int i = 0; i <= (1 << Snowflake.SEQUENCE_BITS) - 1; i++) {
+            last = snowflake.nextId();
+        }
+        assertThat(millisOf(last)).isEqualTo(BASE);
+        assertThat(sequenceOf(last)).isEqualTo((1 << Snowflake.SEQUENCE_BITS) - 1);
+
+        long rolled = snowflake.nextId();
+        assertThat(rolled).isGreaterThan(last);
+        assertThat(millisOf(rolled)).isEqualTo(BASE + 1);
+        assertThat(sequenceOf(rolled)).isZero();
+
+        // 시계가 따라잡기 전까지는 당겨 쓴 ms 에 이어서 발급
+        assertThat(millisOf(snowflake.nextId())).isEqualTo(BASE + 1);
+    }
+
+    @Test
+    void nodeIdIsEncodedAndValidated() {
+        long id = new Snowflake(Snowflake.MAX_NODE_ID, () -> BASE).nextId();
+        assertThat((id >>> Snowflake.SEQUENCE_BITS) & Snowflake.MAX_NODE_ID).isEqualTo(Snowflake.MAX_NODE_ID);
+
+        assertThatThrownBy(() -> new Snowflake(Snowflake.MAX_NODE_ID + 1, () -> BASE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Snowflake(-1, () -> BASE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long millisOf(long id) {
+        return (id >>> (Snowflake.NODE_BITS + Snowflake.SEQUENCE_BITS)) + Snowflake.EPOCH_MILLIS;
+    }
+
+    private static long sequenceOf(long id) {
+        return id & ((1L << Snowflake.SEQUENCE_BITS) - 1);
+    }
+}
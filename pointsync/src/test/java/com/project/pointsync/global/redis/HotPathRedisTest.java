@@ -0,0 +1,56 @@
+package com.project.pointsync.global.redis;
+
+import com.project.pointsync.support.EmbeddedRedisExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisCallback;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(EmbeddedRedisExtension.class)
+class HotPathRedisTest {
+
+    private HotPathRedis hotPathRedis;
+
+    @BeforeEach
+    void setUp() {
+        RedisProperties properties = new RedisProperties();
+        properties.setHost("localhost");
+        properties.setPort(EmbeddedRedisExtension.PORT);
+        hotPathRedis = new HotPathRedis(properties, Duration.ofMillis(100));
+    }
+
+    @AfterEach
+    void tearDown() {
+        hotPathRedis.destroy();
+    }
+
+    @Test
+    void slowCommandTimesOutAtHotPathBudget() {
+        long started = System.nanoTime();
+
+        // 서버를 0.5초 멈춰도 응답 경로 연결은 100ms 타임아웃으로 먼저 끊긴다
+        assertThatThrownBy(() -> hotPathRedis.template().execute((RedisCallback<Object>) connection ->
+                connection.execute("DEBUG", "SLEEP".getBytes(StandardCharsets.UTF_8),
+                        "0.5".getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(QueryTimeoutException.class);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(450L);
+    }
+
+    @Test
+    void normalCommandsWork() {
+        hotPathRedis.template().opsForValue().set("hot-path-test", "1", Duration.ofSeconds(10));
+
+        assertThat(hotPathRedis.template().opsForValue().get("hot-path-test")).isEqualTo("1");
+    }
+}
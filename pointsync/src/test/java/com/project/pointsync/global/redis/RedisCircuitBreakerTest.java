@@ -0,0 +1,149 @@
+package com.project.pointsync.global.redis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisCircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofMillis(50);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<RedisCircuitBreaker.State> transitions = new CopyOnWriteArrayList<>();
+    private RedisCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new RedisCircuitBreaker("test", meterRegistry, 3, Duration.ofSeconds(1), OPEN_DURATION);
+        breaker.addListener(transitions::add);
+    }
+
+    @Test
+    void opensAfterConsecutiveFailuresAndSkipsRedis() {
+        fail(3);
+        assertThat(transitions).containsExactly(RedisCircuitBreaker.State.OPEN);
+
+        AtomicInteger calls = new AtomicInteger();
+        String result = breaker.execute(() -> {
+            calls.incrementAndGet();
+            return "redis";
+        }, () -> "fallback");
+
+        assertThat(result).isEqualTo("fallback");
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    void successResetsConsecutiveFailures() {
+        fail(2);
+        assertThat(breaker.execute(() -> "redis", () -> "fallback")).isEqualTo("redis");
+        fail(2);
+
+        assertThat(transitions).isEmpty();
+    }
+
+    @Test
+    void closesAgainAfterSuccessfulProbe() throws InterruptedException {
+        fail(3);
+        Thread.sleep(OPEN_DURATION.toMillis() * 2);
+
+        assertThat(breaker.execute(() -> "redis", () -> "fallback")).isEqualTo("redis");
+        assertThat(transitions).containsExactly(
+                RedisCircuitBreaker.State.OPEN,
+                RedisCircuitBreaker.State.HALF_OPEN,
+                RedisCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void failedProbeReopens() throws InterruptedException {
+        fail(3);
+        Thread.sleep(OPEN_DURATION.toMillis() * 2);
+
+        fail(1);
+        assertThat(transitions).containsExactly(
+                RedisCircuitBreaker.State.OPEN,
+                RedisCircuitBreaker.State.HALF_OPEN,
+                RedisCircuitBreaker.State.OPEN);
+        assertThat(breaker.execute(() -> "redis", () -> "fallback")).isEqualTo("fallback");
+    }
+
+    @Test
+    void onlyOneProbeRunsWhileHalfOpen() throws Exception {
+        fail(3);
+        Thread.sleep(OPEN_DURATION.toMillis() * 2);
+
+        CountDownLatch probeStarted = new CountDownLatch(1);
+        CountDownLatch releaseProbe = new CountDownLatch(1);
+        CompletableFuture<String> probe = CompletableFuture.supplyAsync(() -> breaker.execute(() -> {
+            probeStarted.countDown();
+            await(releaseProbe);
+            return "probe";
+        }, () -> "fallback"));
+        assertThat(probeStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        AtomicInteger concurrentCalls = new AtomicInteger();
+        String concurrent = breaker.execute(() -> {
+            concurrentCalls.incrementAndGet();
+            return "redis";
+        }, () -> "fallback");
+        assertThat(concurrent).isEqualTo("fallback");
+        assertThat(concurrentCalls).hasValue(0);
+
+        releaseProbe.countDown();
+        assertThat(probe.get(5, TimeUnit.SECONDS)).isEqualTo("probe");
+        assertThat(transitions).endsWith(RedisCircuitBreaker.State.CLOSED);
+        assertThat(breaker.execute(() -> "redis", () -> "fallback")).isEqualTo("redis");
+    }
+
+    @Test
+    void slowCallsCountAsFailuresButKeepResult() {
+        RedisCircuitBreaker slow = new RedisCircuitBreaker("slow", meterRegistry, 2, Duration.ofMillis(1), OPEN_DURATION);
+        slow.addListener(transitions::add);
+
+        for (int i = 0; i < 2; i++) {
+            String result = slow.execute(() -> {
+                sleep(10);
+                return "redis";
+            }, () -> "fallback");
+            assertThat(result).isEqualTo("redis");
+        }
+
+        assertThat(transitions).containsExactly(RedisCircuitBreaker.State.OPEN);
+        assertThat(meterRegistry.counter("pointsync.redis.circuit.calls", "name", "slow", "outcome", "slow").count())
+                .isEqualTo(2.0);
+    }
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            breaker.execute(() -> {
+                throw new IllegalStateException("redis down");
+            }, () -> null);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
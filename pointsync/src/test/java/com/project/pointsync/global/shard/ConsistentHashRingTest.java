@@ -0,0 +1,66 @@
+package com.project.pointsync.global.shard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 100_000;
+
+    @Test
+    void addingShardMovesAboutOneNthOfKeys() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of(0, 1, 2), 128);
+        ConsistentHashRing after = new ConsistentHashRing(List.of(0, 1, 2, 3), 128);
+
+        long moved = 0;
+        for (long key = 1; key <= KEYS; key++) {
+            int from = before.shardOf(key);
+            int to = after.shardOf(key);
+            if (from != to) {
+                moved++;
+                // 옮겨지는 키는 모두 새 샤드로 간다
+                assertThat(to).isEqualTo(3);
+            }
+        }
+
+        // 이상적으로 1/4
+        assertThat((double) moved / KEYS).isBetween(0.15, 0.35);
+    }
+
+    @Test
+    void spreadsSequentialKeysEvenly() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of(0, 1, 2, 3), 128);
+
+        // Snowflake 처럼 하위 비트만 바뀌는 연속 id
+        Map<Integer, Long> counts = LongStream.range(0, KEYS)
+                .map(i -> (1_000_000L << 22) + i)
+                .boxed()
+                .collect(Collectors.groupingBy(ring::shardOf, Collectors.counting()));
+
+        assertThat(counts).hasSize(4);
+        counts.values().forEach(count -> assertThat((double) count / KEYS).isBetween(0.15, 0.35));
+    }
+
+    @Test
+    void sameRingGivesSameShard() {
+        ConsistentHashRing a = new ConsistentHashRing(List.of(0, 1), 128);
+        ConsistentHashRing b = new ConsistentHashRing(List.of(1, 0), 128);
+
+        for (long key = 1; key <= 1_000; key++) {
+            assertThat(a.shardOf(key)).isEqualTo(b.shardOf(key));
+        }
+    }
+
+    @Test
+    void rejectsEmptyRing() {
+        assertThatThrownBy(() -> new ConsistentHashRing(List.of(), 128))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,86 @@
+package com.project.pointsync.global.startup;
+
+import com.project.pointsync.global.shard.ShardRoutingDataSource;
+import com.project.pointsync.global.shard.ShardTemplate;
+import com.project.pointsync.global.time.TimeProvider;
+import com.project.pointsync.repository.AttendanceLogRepository;
+import com.project.pointsync.repository.PointLedgerRepository;
+import com.project.pointsync.repository.UserRepository;
+import com.project.pointsync.support.EmbeddedRedisExtension;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+@SpringBootTest
+@ExtendWith(EmbeddedRedisExtension.class)
+class StartupWarmUpTest {
+
+    @Autowired
+    private StartupWarmUp startupWarmUp;
+    @Autowired
+    @Qualifier("dataSource")
+    private DataSource dataSource;
+    @Autowired
+    private ShardRoutingDataSource shardDataSource;
+    @Autowired
+    private ShardTemplate shardTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AttendanceLogRepository attendanceLogRepository;
+    @Autowired
+    private PointLedgerRepository pointLedgerRepository;
+    @Autowired
+    private StringRedisTemplate redis;
+    @Autowired
+    private TimeProvider time;
+
+    @Test
+    void disabledUnlessProfileTurnsItOn() {
+        // 테스트 설정에는 pointsync.startup.warm-up 이 없다
+        assertThat(ReflectionTestUtils.getField(startupWarmUp, "enabled")).isEqualTo(false);
+    }
+
+    @Test
+    void fillsEveryPoolUpToMinimumIdle() throws Exception {
+        warmUp(redis).run(null);
+
+        for (DataSource pool : shardDataSource.getResolvedDataSources().values()) {
+            if (pool instanceof HikariDataSource hikari) {
+                assertThat(hikari.getHikariPoolMXBean().getTotalConnections())
+                        .isGreaterThanOrEqualTo(Math.max(1, hikari.getMinimumIdle()));
+            }
+        }
+    }
+
+    @Test
+    void redisFailureDoesNotBlockStartup() {
+        // 아무것도 듣지 않는 포트
+        LettuceConnectionFactory unreachable = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("localhost", 1));
+        unreachable.afterPropertiesSet();
+        unreachable.start();
+        try {
+            assertThatCode(() -> warmUp(new StringRedisTemplate(unreachable)).run(null)).doesNotThrowAnyException();
+        } finally {
+            unreachable.destroy();
+        }
+    }
+
+    private StartupWarmUp warmUp(StringRedisTemplate redisTemplate) {
+        return new StartupWarmUp(dataSource, shardDataSource, shardTemplate, userRepository,
+                attendanceLogRepository, pointLedgerRepository, redisTemplate, time, true);
+    }
+}
@@ -0,0 +1,140 @@
+package com.project.pointsync.service;
+
+import com.project.pointsync.domain.AttendanceLog;
+import com.project.pointsync.domain.User;
+import com.project.pointsync.dto.Analytics.AnalyticsBackfillStatus;
+import com.project.pointsync.dto.Analytics.RetentionResDto;
+import com.project.pointsync.global.exception.CustomException;
+import com.project.pointsync.global.exception.ErrorCode;
+import com.project.pointsync.global.shard.ShardTemplate;
+import com.project.pointsync.global.time.TimeProvider;
+import com.project.pointsync.repository.AttendanceLogRepository;
+import com.project.pointsync.repository.UserRepository;
+import com.project.pointsync.support.EmbeddedRedisExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 다른 테스트가 쓰지 않는 과거 날짜(보관 기간 400일 안)를 사용한다
+ */
+@SpringBootTest
+@ExtendWith(EmbeddedRedisExtension.class)
+class AttendanceAnalyticsServiceTest {
+
+    @Autowired
+    private AttendanceAnalyticsService analyticsService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AttendanceLogRepository attendanceLogRepository;
+    @Autowired
+    private ShardTemplate shardTemplate;
+    @Autowired
+    private StringRedisTemplate redis;
+    @Autowired
+    private TimeProvider time;
+
+    @Test
+    void retentionCountsCohortUsersWhoCameBack() {
+        LocalDate cohort = time.today().minusDays(200);
+        Long a = createUser("a").getId();
+        Long b = createUser("b").getId();
+        Long c = createUser("c").getId();
+        for (Long userId : new Long[]{a, b, c}) {
+            analyticsService.recordCheckIn(userId, cohort);
+        }
+        analyticsService.recordCheckIn(a, cohort.plusDays(1));
+        analyticsService.recordCheckIn(b, cohort.plusDays(3));
+
+        RetentionResDto nextDay = analyticsService.getRetention(cohort, 1);
+        RetentionResDto threeDays = analyticsService.getRetention(cohort, 3);
+
+        assertThat(nextDay.cohortSize()).isEqualTo(3);
+        assertThat(nextDay.retainedOnDay()).isEqualTo(1);
+        assertThat(nextDay.onDayRate()).isCloseTo(1.0 / 3, within(1e-9));
+        assertThat(threeDays.retainedOnDay()).isEqualTo(1);
+        assertThat(threeDays.retainedWithin()).isEqualTo(2);
+        // BITOP 임시 키는 남지 않는다
+        assertThat(redis.keys("analytics:tmp:*")).isEmpty();
+    }
+
+    @Test
+    void retentionRejectsDaysBeyondRetentionWindow() {
+        assertThatThrownBy(() -> analyticsService.getRetention(time.today().minusDays(10), 401))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.ANALYTICS_INVALID_RANGE);
+    }
+
+    @Test
+    void backfillRebuildsKeysFromAttendanceLogIdempotently() {
+        LocalDate day = time.today().minusDays(250);
+        for (String name : new String[]{"x", "y"}) {
+            User user = createUser(name);
+            // 출석 시 통계 기록이 빠진 상황 (Redis 장애 등)
+            shardTemplate.write(user.getId(), () -> attendanceLogRepository.save(AttendanceLog.create(user, day)));
+        }
+
+        AnalyticsBackfillStatus first = runBackfill(day, day);
+        AnalyticsBackfillStatus second = runBackfill(day, day);
+
+        assertThat(first.state()).isEqualTo(AnalyticsBackfillStatus.State.DONE);
+        assertThat(first.lastReport().rowsApplied()).isEqualTo(2);
+        assertThat(second.state()).isEqualTo(AnalyticsBackfillStatus.State.DONE);
+        assertThat(analyticsService.getDailyActive(day, day).get(0).activeUsers()).isEqualTo(2);
+        assertThat(analyticsService.getMonthlyActive(YearMonth.from(day)).activeUsers()).isEqualTo(2);
+    }
+
+    @Test
+    void backfillClampsStartToRetentionWindow() {
+        LocalDate to = time.today().minusDays(380);
+
+        AnalyticsBackfillStatus started = analyticsService.startBackfill(time.today().minusDays(1_000), to);
+        AnalyticsBackfillStatus done = awaitBackfill();
+
+        assertThat(started.from()).isEqualTo(time.today().minusDays(399));
+        assertThat(done.state()).isEqualTo(AnalyticsBackfillStatus.State.DONE);
+        assertThat(done.lastReport().from()).isEqualTo(started.from());
+    }
+
+    private AnalyticsBackfillStatus runBackfill(LocalDate from, LocalDate to) {
+        analyticsService.startBackfill(from, to);
+        return awaitBackfill();
+    }
+
+    private AnalyticsBackfillStatus awaitBackfill() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        AnalyticsBackfillStatus status = analyticsService.backfillStatus();
+        while (status.state() == AnalyticsBackfillStatus.State.RUNNING && System.nanoTime() < deadline) {
+            sleep(20);
+            status = analyticsService.backfillStatus();
+        }
+        // 상태 저장 뒤에 잠금을 푼다: 다음 startBackfill 이 거절되지 않게 기다린다
+        while (Boolean.TRUE.equals(redis.hasKey("analytics:backfill:lock")) && System.nanoTime() < deadline) {
+            sleep(20);
+        }
+        return status;
+    }
+
+    private User createUser(String name) {
+        return userRepository.save(User.createUser(name, name + "-" + System.nanoTime() + "@test.com"));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
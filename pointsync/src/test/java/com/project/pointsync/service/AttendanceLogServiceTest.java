@@ -0,0 +1,75 @@
+package com.project.pointsync.service;
+
+import com.project.pointsync.domain.User;
+import com.project.pointsync.domain.UserShard;
+import com.project.pointsync.dto.AttendanceLog.CheckInResult;
+import com.project.pointsync.global.exception.CustomException;
+import com.project.pointsync.global.exception.ErrorCode;
+import com.project.pointsync.global.shard.ShardResolver;
+import com.project.pointsync.global.shard.ShardTemplate;
+import com.project.pointsync.global.time.TimeProvider;
+import com.project.pointsync.repository.AttendanceLogRepository;
+import com.project.pointsync.repository.UserRepository;
+import com.project.pointsync.support.EmbeddedRedisExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ExtendWith(EmbeddedRedisExtension.class)
+class AttendanceLogServiceTest {
+
+    @Autowired
+    private AttendanceLogService attendanceLogService;
+    @Autowired
+    private ShardResolver shardResolver;
+    @Autowired
+    private ShardTemplate shardTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AttendanceLogRepository attendanceLogRepository;
+    @Autowired
+    private TimeProvider time;
+
+    @Test
+    void checkInOncePerDay() {
+        Long userId = createUser("daily").getId();
+
+        CheckInResult first = attendanceLogService.checkIn(userId);
+        CheckInResult second = attendanceLogService.checkIn(userId);
+
+        assertThat(first.todayPoint()).isEqualTo(1);
+        assertThat(second.todayPoint()).isZero();
+        assertThat(second.totalPoints()).isEqualTo(1);
+    }
+
+    @Test
+    void checkInRejectedDuringMoveCanBeRetried() {
+        Long userId = createUser("moving").getId();
+        int shard = shardResolver.shardOf(userId);
+        UserShard row = UserShard.moving(userId, shard, 1 - shard);
+        shardResolver.apply(row);
+
+        assertThatThrownBy(() -> attendanceLogService.checkIn(userId))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.USER_SHARD_MOVING);
+
+        row.cancelMove();
+        shardResolver.apply(row);
+
+        // 거절된 시도가 오늘 출석 표시를 남기지 않았으므로 재시도가 정상 출석이 된다
+        CheckInResult retried = attendanceLogService.checkIn(userId);
+        assertThat(retried.todayPoint()).isEqualTo(1);
+        assertThat(shardTemplate.read(userId,
+                () -> attendanceLogRepository.existsByUserIdAndAttendDate(userId, time.today()))).isTrue();
+    }
+
+    private User createUser(String name) {
+        return userRepository.save(User.createUser(name, name + "-" + System.nanoTime() + "@test.com"));
+    }
+}
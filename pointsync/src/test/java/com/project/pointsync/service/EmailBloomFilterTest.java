@@ -0,0 +1,79 @@
+package com.project.pointsync.service;
+
+import com.project.pointsync.domain.User;
+import com.project.pointsync.global.redis.RedisLock;
+import com.project.pointsync.repository.UserRepository;
+import com.project.pointsync.support.EmbeddedRedisExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ExtendWith(EmbeddedRedisExtension.class)
+class EmailBloomFilterTest {
+
+    private static final String LOCK_KEY = "bloom:user-email:rebuild-lock";
+
+    @Autowired
+    private EmailBloomFilter emailBloomFilter;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RedisLock redisLock;
+    @Autowired
+    private StringRedisTemplate redis;
+
+    @BeforeEach
+    void awaitStartupRebuild() {
+        // 기동 시 백그라운드 재구축이 잠금을 쥐고 있으면 끝날 때까지 기다린다
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (Boolean.TRUE.equals(redis.hasKey(LOCK_KEY)) && System.nanoTime() < deadline) {
+            sleep(20);
+        }
+    }
+
+    @Test
+    void rebuildAddsUsersThatSkippedPut() {
+        String email = "skipped-" + System.nanoTime() + "@test.com";
+        userRepository.save(User.createUser("skipped", email));
+
+        emailBloomFilter.rebuild();
+
+        assertThat(emailBloomFilter.mightContain(email)).isTrue();
+        assertThat(emailBloomFilter.mightContain(email.toUpperCase())).isTrue();
+        assertThat(IntStream.range(0, 20).mapToObj(i -> "stranger-" + i + "-" + System.nanoTime() + "@test.com"))
+                .anyMatch(stranger -> !emailBloomFilter.mightContain(stranger));
+        // 끝나면 잠금을 돌려준다
+        assertThat(redis.hasKey(LOCK_KEY)).isFalse();
+    }
+
+    @Test
+    void rebuildSkipsWhileAnotherServerHoldsLock() {
+        String token = redisLock.tryLock(LOCK_KEY, Duration.ofMinutes(1));
+        try {
+            emailBloomFilter.rebuild();
+
+            // 남의 잠금은 건드리지 않는다
+            assertThat(redis.opsForValue().get(LOCK_KEY)).isEqualTo(token);
+        } finally {
+            redisLock.unlock(LOCK_KEY, token);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
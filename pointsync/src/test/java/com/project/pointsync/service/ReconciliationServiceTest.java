@@ -0,0 +1,120 @@
+package com.project.pointsync.service;
+
+import com.project.pointsync.domain.AttendanceLog;
+import com.project.pointsync.domain.PointLedger;
+import com.project.pointsync.domain.User;
+import com.project.pointsync.dto.Reconciliation.ReconciliationReport;
+import com.project.pointsync.dto.Reconciliation.ReconciliationStatus;
+import com.project.pointsync.global.redis.RedisKeys;
+import com.project.pointsync.global.shard.ShardTemplate;
+import com.project.pointsync.global.time.TimeProvider;
+import com.project.pointsync.repository.AttendanceLogRepository;
+import com.project.pointsync.repository.PointLedgerRepository;
+import com.project.pointsync.repository.UserRepository;
+import com.project.pointsync.support.EmbeddedRedisExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 설정: orphan-grace 1초
+ */
+@SpringBootTest
+@ExtendWith(EmbeddedRedisExtension.class)
+class ReconciliationServiceTest {
+
+    @Autowired
+    private ReconciliationService reconciliationService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AttendanceLogRepository attendanceLogRepository;
+    @Autowired
+    private PointLedgerRepository pointLedgerRepository;
+    @Autowired
+    private ShardTemplate shardTemplate;
+    @Autowired
+    private StringRedisTemplate redis;
+    @Autowired
+    private TimeProvider time;
+
+    @Test
+    void reportsMissingCacheAndLedgerMismatch() {
+        // 오늘 출석은 있는데 Redis 키도, DAILY_CHECK_IN 원장도 없음
+        User user = createUser("mismatch");
+        shardTemplate.write(user.getId(), () -> attendanceLogRepository.save(AttendanceLog.create(user, time.today())));
+
+        ReconciliationReport report = run(false);
+
+        assertThat(report.cacheMissing()).isPositive();
+        assertThat(report.ledgerMismatch()).isPositive();
+        assertThat(report.samples()).contains(
+                "cache_missing userId=" + user.getId(),
+                "ledger_mismatch userId=" + user.getId() + " attendance=1 dailyCheckIn=0");
+        // 보고만 하고 고치지 않는다
+        assertThat(redis.hasKey(attendanceKey(user))).isFalse();
+    }
+
+    @Test
+    void repairDeletesOnlyKeysStillOrphanedAfterGrace() {
+        User orphan = createUser("orphan");
+        redis.opsForValue().set(attendanceKey(orphan), "1");
+        User inFlight = createUser("in-flight");
+        redis.opsForValue().set(attendanceKey(inFlight), "1");
+
+        reconciliationService.start(true);
+        // 점검이 키를 훑은 뒤(grace 안)에 DB 저장이 끝난 출석
+        shardTemplate.write(inFlight.getId(), () -> {
+            attendanceLogRepository.save(AttendanceLog.create(inFlight, time.today()));
+            return pointLedgerRepository.save(PointLedger.create(inFlight, 1, PointLedger.PointReason.DAILY_CHECK_IN));
+        });
+        ReconciliationReport report = awaitReport();
+
+        assertThat(report.samples()).contains("cache_orphan userId=" + orphan.getId())
+                .doesNotContain("cache_orphan userId=" + inFlight.getId());
+        assertThat(redis.hasKey(attendanceKey(orphan))).isFalse();
+        assertThat(redis.hasKey(attendanceKey(inFlight))).isTrue();
+    }
+
+    private ReconciliationReport run(boolean repair) {
+        reconciliationService.start(repair);
+        return awaitReport();
+    }
+
+    private ReconciliationReport awaitReport() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        ReconciliationStatus status = reconciliationService.status();
+        while (status.state() == ReconciliationStatus.State.RUNNING && System.nanoTime() < deadline) {
+            sleep(50);
+            status = reconciliationService.status();
+        }
+        assertThat(status.state()).isEqualTo(ReconciliationStatus.State.DONE);
+        // 상태 저장 뒤에 잠금을 푼다: 다음 테스트의 start 가 거절되지 않게 기다린다
+        while (Boolean.TRUE.equals(redis.hasKey("reconciliation:lock")) && System.nanoTime() < deadline) {
+            sleep(20);
+        }
+        return status.lastReport();
+    }
+
+    private String attendanceKey(User user) {
+        return RedisKeys.attendance(user.getId(), time.today());
+    }
+
+    private User createUser(String name) {
+        return userRepository.save(User.createUser(name, name + "-" + System.nanoTime() + "@test.com"));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.project.pointsync.service;
+
+import com.project.pointsync.domain.AttendanceLog;
+import com.project.pointsync.domain.PointLedger;
+import com.project.pointsync.domain.User;
+import com.project.pointsync.domain.UserShard;
+import com.project.pointsync.dto.Shard.ShardMoveResDto;
+import com.project.pointsync.dto.Shard.ShardMoveStatus;
+import com.project.pointsync.global.exception.CustomException;
+import com.project.pointsync.global.exception.ErrorCode;
+import com.project.pointsync.global.shard.ShardResolver;
+import com.project.pointsync.global.shard.ShardRoutingDataSource;
+import com.project.pointsync.global.shard.ShardTemplate;
+import com.project.pointsync.repository.AttendanceLogRepository;
+import com.project.pointsync.repository.PointLedgerRepository;
+import com.project.pointsync.repository.UserRepository;
+import com.project.pointsync.support.EmbeddedRedisExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 테스트 설정의 H2 샤드 두 개(shard0, shard1) 사이 이동
+ */
+@SpringBootTest
+@ExtendWith(EmbeddedRedisExtension.class)
+class ShardMigrationServiceTest {
+
+    @Autowired
+    private ShardMigrationService shardMigrationService;
+    @Autowired
+    private ShardTemplate shardTemplate;
+    @Autowired
+    private ShardResolver shardResolver;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AttendanceLogRepository attendanceLogRepository;
+    @Autowired
+    private PointLedgerRepository pointLedgerRepository;
+    @Autowired
+    private ShardRoutingDataSource shardDataSource;
+
+    @Test
+    void moveUserCopiesRowsAndClearsSource() {
+        User user = createUser("mover");
+        Long userId = user.getId();
+        int from = shardResolver.shardOf(userId);
+        int to = 1 - from;
+        shardTemplate.write(userId, () -> {
+            attendanceLogRepository.save(AttendanceLog.create(user, LocalDate.of(2024, 1, 1)));
+            attendanceLogRepository.save(AttendanceLog.create(user, LocalDate.of(2024, 1, 2)));
+            return pointLedgerRepository.save(PointLedger.create(user, 10, PointLedger.PointReason.DAILY_CHECK_IN));
+        });
+
+        assertThat(shardMigrationService.startMove(userId, to).state()).isEqualTo(ShardMoveStatus.State.RUNNING);
+        ShardMoveStatus status = awaitMove(userId);
+
+        assertThat(status.state()).isEqualTo(ShardMoveStatus.State.DONE);
+        ShardMoveResDto result = status.move();
+
+        assertThat(result.attendanceCopied()).isEqualTo(2);
+        assertThat(result.ledgerCopied()).isEqualTo(1);
+        assertThat(count(from, "attendance_log", userId)).isZero();
+        assertThat(count(from, "point_ledger", userId)).isZero();
+        assertThat(count(to, "attendance_log", userId)).isEqualTo(2);
+        assertThat(count(to, "point_ledger", userId)).isEqualTo(1);
+        assertThat(shardResolver.shardOf(userId)).isEqualTo(to);
+        assertThat(shardResolver.isMoving(userId)).isFalse();
+
+        // 이동 후 쓰기/읽기는 대상 샤드
+        shardTemplate.write(userId, () ->
+                pointLedgerRepository.save(PointLedger.create(user, 5, PointLedger.PointReason.STREAK_BONUS)));
+        assertThat(count(to, "point_ledger", userId)).isEqualTo(2);
+        assertThat(shardTemplate.read(userId, () -> attendanceLogRepository.findDatesByUserIdAndRange(
+                userId, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)))).hasSize(2);
+    }
+
+    @Test
+    void writeRollsBackWhenMoveStartsBeforeCommit() {
+        User user = createUser("fenced");
+        Long userId = user.getId();
+        int shard = shardResolver.shardOf(userId);
+        UserShard row = UserShard.moving(userId, shard, 1 - shard);
+
+        assertThatThrownBy(() -> shardTemplate.write(userId, () -> {
+            pointLedgerRepository.saveAndFlush(PointLedger.create(user, 10, PointLedger.PointReason.DAILY_CHECK_IN));
+            // 트랜잭션 도중 이동 표시가 반영된 상황
+            shardResolver.apply(row);
+            return null;
+        }))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.USER_SHARD_MOVING);
+
+        assertThat(count(shard, "point_ledger", userId)).isZero();
+
+        row.cancelMove();
+        shardResolver.apply(row);
+    }
+
+    @Test
+    void deleteSourceRemovesRowsInKeysetBatches() {
+        User user = createUser("many");
+        Long userId = user.getId();
+        int from = shardResolver.shardOf(userId);
+        // move-batch-size(테스트 5) 보다 많은 행
+        shardTemplate.write(userId, () -> {
+            for (int i = 0; i < 12; i++) {
+                pointLedgerRepository.save(PointLedger.create(user, 1, PointLedger.PointReason.ADMIN_ADJUSTMENT));
+            }
+            return null;
+        });
+
+        shardMigrationService.startMove(userId, 1 - from);
+        ShardMoveStatus status = awaitMove(userId);
+
+        assertThat(status.state()).isEqualTo(ShardMoveStatus.State.DONE);
+        assertThat(status.move().ledgerCopied()).isEqualTo(12);
+        assertThat(count(from, "point_ledger", userId)).isZero();
+        assertThat(count(1 - from, "point_ledger", userId)).isEqualTo(12);
+    }
+
+    private ShardMoveStatus awaitMove(Long userId) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        ShardMoveStatus status = shardMigrationService.moveStatus(userId);
+        while (status.state() == ShardMoveStatus.State.RUNNING && System.nanoTime() < deadline) {
+            sleep(20);
+            status = shardMigrationService.moveStatus(userId);
+        }
+        return status;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private User createUser(String name) {
+        return userRepository.save(User.createUser(name, name + "-" + System.nanoTime() + "@test.com"));
+    }
+
+    private long count(int shard, String table, Long userId) {
+        DataSource dataSource = shardDataSource.getResolvedDataSources().get(shard);
+        Long count = new JdbcTemplate(dataSource).queryForObject(
+                "select count(*) from " + table + " where user_id = ?", Long.class, userId);
+        return count == null ? 0 : count;
+    }
+}
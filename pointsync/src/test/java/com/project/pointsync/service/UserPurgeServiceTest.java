@@ -0,0 +1,135 @@
+package com.project.pointsync.service;
+
+import com.project.pointsync.domain.AttendanceLog;
+import com.project.pointsync.domain.PointLedger;
+import com.project.pointsync.domain.User;
+import com.project.pointsync.dto.User.UserPurgeStatus;
+import com.project.pointsync.global.redis.RedisKeys;
+import com.project.pointsync.global.redis.RedisLock;
+import com.project.pointsync.global.shard.ShardTemplate;
+import com.project.pointsync.global.time.TimeProvider;
+import com.project.pointsync.repository.AttendanceLogRepository;
+import com.project.pointsync.repository.PointLedgerRepository;
+import com.project.pointsync.repository.UserRepository;
+import com.project.pointsync.support.EmbeddedRedisExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 설정: batch-size 5, final-grace 0 (첫 정리에서 users 행까지 삭제)
+ */
+@SpringBootTest
+@ExtendWith(EmbeddedRedisExtension.class)
+class UserPurgeServiceTest {
+
+    private static final int ROWS = 12;
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserPurgeService userPurgeService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AttendanceLogRepository attendanceLogRepository;
+    @Autowired
+    private PointLedgerRepository pointLedgerRepository;
+    @Autowired
+    private ShardTemplate shardTemplate;
+    @Autowired
+    private StringRedisTemplate redis;
+    @Autowired
+    private RedisLock redisLock;
+    @Autowired
+    private TimeProvider time;
+
+    @Test
+    void purgeDeletesHistoryInKeysetBatches() {
+        User user = createUserWithHistory("purged");
+        Long userId = user.getId();
+        redis.opsForValue().set(RedisKeys.attendance(userId, time.today()), "1");
+
+        userService.delete(userId);
+        UserPurgeStatus status = awaitPurge(userId);
+
+        assertThat(status.state()).isEqualTo(UserPurgeStatus.State.DONE);
+        assertThat(status.attendanceDeleted()).isEqualTo(ROWS);
+        assertThat(status.ledgerDeleted()).isEqualTo(ROWS);
+        assertThat(status.redisKeysDeleted()).isEqualTo(1);
+        assertThat(remainingRows(userId)).isZero();
+        assertThat(redis.hasKey(RedisKeys.attendance(userId, time.today()))).isFalse();
+        assertThat(userRepository.findById(userId)).isEmpty();
+    }
+
+    @Test
+    void purgeResumesWhenLockIsReleased() {
+        User user = createUserWithHistory("resumed");
+        Long userId = user.getId();
+        // 다른 서버가 정리 중인 상황
+        String lockKey = "user-purge:lock:" + userId;
+        String token = redisLock.tryLock(lockKey, Duration.ofMinutes(1));
+
+        userService.delete(userId);
+        sleep(300);
+
+        assertThat(userPurgeService.status(userId)).get()
+                .extracting(UserPurgeStatus::state).isEqualTo(UserPurgeStatus.State.PENDING);
+        assertThat(remainingRows(userId)).isEqualTo(ROWS * 2);
+
+        // 그 서버가 내려가 잠금이 풀린 뒤 sweep 이 다시 잡은 상황
+        redisLock.unlock(lockKey, token);
+        userPurgeService.schedule(userId);
+        UserPurgeStatus status = awaitPurge(userId);
+
+        assertThat(status.state()).isEqualTo(UserPurgeStatus.State.DONE);
+        assertThat(remainingRows(userId)).isZero();
+        assertThat(userRepository.findById(userId)).isEmpty();
+    }
+
+    private UserPurgeStatus awaitPurge(Long userId) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        UserPurgeStatus status = userPurgeService.status(userId).orElseThrow();
+        while (status.state() != UserPurgeStatus.State.DONE
+                && status.state() != UserPurgeStatus.State.FAILED
+                && System.nanoTime() < deadline) {
+            sleep(20);
+            status = userPurgeService.status(userId).orElseThrow();
+        }
+        return status;
+    }
+
+    private User createUserWithHistory(String name) {
+        User user = userRepository.save(User.createUser(name, name + "-" + System.nanoTime() + "@test.com"));
+        shardTemplate.write(user.getId(), () -> {
+            for (int i = 0; i < ROWS; i++) {
+                attendanceLogRepository.save(AttendanceLog.create(user, time.today().minusDays(i)));
+                pointLedgerRepository.save(PointLedger.create(user, 1, PointLedger.PointReason.DAILY_CHECK_IN));
+            }
+            return null;
+        });
+        return user;
+    }
+
+    private int remainingRows(Long userId) {
+        return shardTemplate.read(userId, () ->
+                attendanceLogRepository.findIdsByUserIdAfter(userId, 0L, PageRequest.of(0, 100)).size()
+                        + pointLedgerRepository.findIdsByUserIdAfter(userId, 0L, PageRequest.of(0, 100)).size());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.project.pointsync.support;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import redis.embedded.RedisServer;
+
+/**
+ * 테스트용 embedded Redis (application.yml 의 6370 포트)
+ * - 스프링 컨텍스트보다 먼저 띄우고, 테스트 JVM 이 끝날 때 내린다 (여러 테스트 클래스가 공유)
+ * - 포트가 이미 열려 있으면(로컬 Redis 등) 그대로 쓴다
+ */
+public class EmbeddedRedisExtension implements BeforeAllCallback {
+
+    public static final int PORT = 6370;
+
+    private static RedisServer server;
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        start();
+    }
+
+    private static synchronized void start() {
+        if (server != null) {
+            return;
+        }
+        server = RedisServer.builder()
+                .port(PORT)
+                .setting("maxmemory 128M")
+                .build();
+        try {
+            server.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        } catch (RuntimeException e) {
+            // 이미 떠 있는 Redis 사용
+        }
+    }
+}